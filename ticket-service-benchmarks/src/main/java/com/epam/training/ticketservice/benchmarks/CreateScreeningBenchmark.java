@@ -0,0 +1,96 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.user.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateScreeningBenchmark {
+    private static final String MOVIE = "Movie";
+    private static final String ROOM = "Room";
+    private static final int RUNTIME_IN_MINUTES = 50;
+    private static final int SLOT_IN_MINUTES = RUNTIME_IN_MINUTES + 30;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final LocalDateTime FIRST_SCREENING = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Param({"10", "1000", "100000"})
+    private int existingScreenings;
+
+    @Param({"memory", "database"})
+    private String conflictDetection;
+
+    private ConfigurableApplicationContext context;
+    private ScreeningService screeningService;
+    private LocalDateTime overlappingDate;
+    private LocalDateTime freeDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = TicketServiceContext.start("ticket-service.screening.conflict-detection=" + conflictDetection);
+        context.getBean(UserService.class).signInPrivileged("admin", "admin");
+        var movie = context.getBean(MovieService.class).createMovie(MOVIE, "drama", RUNTIME_IN_MINUTES).unwrap();
+        var room = context.getBean(RoomService.class).createRoom(ROOM, 10, 10).unwrap();
+        screeningService = context.getBean(ScreeningService.class);
+
+        var screeningRepository = context.getBean(ScreeningRepository.class);
+        var batch = new ArrayList<Screening>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < existingScreenings; i++) {
+            batch.add(new Screening(movie, room, slot(i)));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                screeningRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        screeningRepository.saveAll(batch);
+
+        overlappingDate = slot(existingScreenings / 2).plusMinutes(5);
+        freeDate = slot(existingScreenings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static LocalDateTime slot(int index) {
+        return FIRST_SCREENING.plusMinutes((long) index * SLOT_IN_MINUTES);
+    }
+
+    @Benchmark
+    public Result<Screening> createOverlappingScreening() {
+        return screeningService.createScreening(MOVIE, ROOM, overlappingDate);
+    }
+
+    @Benchmark
+    public Result<Screening> createAndDeleteScreening() {
+        screeningService.createScreening(MOVIE, ROOM, freeDate).unwrap();
+        return screeningService.deleteScreening(MOVIE, ROOM, freeDate);
+    }
+}
@@ -0,0 +1,63 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.ui.command.ErrorMessages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+    private int value = 1;
+    private final Result<Integer> ok = Result.ok(1);
+    private final Result<Integer> err = Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE);
+
+    private static Result<Integer> chain(Result<Integer> result) {
+        return result
+                .flatMap(i -> Result.ok(i + 1))
+                .flatMap(i -> Result.ok(i * 2))
+                .flatMap(i -> i > 0 ? Result.ok(i - 1) : Result.err(ErrorCode.IMPORT_NOT_POSITIVE.with("value", i)))
+                .flatMap(i -> Result.ok(i + 3))
+                .map(i -> i * 5);
+    }
+
+    @Benchmark
+    public Result<Integer> okFlatMapChain() {
+        return chain(ok);
+    }
+
+    @Benchmark
+    public Result<Integer> errFlatMapChain() {
+        return chain(err);
+    }
+
+    @Benchmark
+    public Result<Integer> errCreation() {
+        // Fixed failures are shared, only the Err itself is allocated
+        return Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE);
+    }
+
+    @Benchmark
+    public Result<Integer> errWithDetailsCreation() {
+        return Result.err(ErrorCode.SEAT_TAKEN.with(value));
+    }
+
+    @Benchmark
+    public String okToCommandOutput() {
+        return Result.ok(value).toOptional().map(ErrorMessages::of).orElse(null);
+    }
+}
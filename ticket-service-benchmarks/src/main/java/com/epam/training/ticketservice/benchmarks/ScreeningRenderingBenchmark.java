@@ -0,0 +1,58 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreeningRenderingBenchmark {
+    @Param({"10", "1000"})
+    private int screeningCount;
+
+    private List<Screening> screenings;
+
+    @Setup
+    public void setUp() {
+        var movie = new Movie("Sátántangó", "drama", 450);
+        var room = new Room("Pedersoli", 20, 10);
+        var first = LocalDateTime.of(2021, 3, 15, 10, 45);
+        screenings = new ArrayList<>(screeningCount);
+        for (int i = 0; i < screeningCount; i++) {
+            screenings.add(new Screening(movie, room, first.plusMinutes(460L * i)));
+        }
+    }
+
+    @Benchmark
+    public String screeningToString() {
+        return screenings.get(0).toString();
+    }
+
+    @Benchmark
+    public String renderScreeningList() {
+        return screenings.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.ui.server.ServerShellRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Box-office terminals sharing one server process: every benchmark thread is a client with its own connection
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class ServerBenchmark {
+    private static final String MOVIE = "Movie";
+    private static final String ROOM = "Room";
+    private static final String DATE = "\"2021-03-15 10:00\"";
+    private static final String PASSWORD = "password";
+
+    private ConfigurableApplicationContext context;
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+    private Future<?> server;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = TicketServiceContext.start();
+        var userService = context.getBean(UserService.class);
+        userService.signInPrivileged("admin", "admin");
+        context.getBean(MovieService.class).createMovie(MOVIE, "drama", 100).unwrap();
+        context.getBean(RoomService.class).createRoom(ROOM, 100, 100).unwrap();
+        context.getBean(ScreeningService.class).createScreening(MOVIE, ROOM, LocalDateTime.of(2021, 3, 15, 10, 0))
+                .unwrap();
+        userService.signOut();
+
+        var runner = context.getBean(ServerShellRunner.class);
+        serverSocket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+        executor = Executors.newSingleThreadExecutor();
+        server = executor.submit(() -> {
+            runner.serve(serverSocket);
+            return null;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        serverSocket.close();
+        server.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private Socket socket;
+        private BufferedReader reader;
+        private PrintWriter writer;
+
+        @Setup(Level.Trial)
+        public void connect(ServerBenchmark benchmark, ThreadParams threadParams) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), benchmark.serverSocket.getLocalPort());
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            var username = "user" + threadParams.getThreadIndex();
+            send("sign up " + username + " " + PASSWORD);
+            send("sign in " + username + " " + PASSWORD);
+        }
+
+        @TearDown(Level.Trial)
+        public void disconnect() throws IOException {
+            socket.close();
+        }
+
+        // Returns the closing frame of the command's answer
+        String send(String command) {
+            writer.println(command);
+            try {
+                for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.startsWith("<<< ")) {
+                        return line;
+                    }
+                }
+                throw new IllegalStateException("The server closed the connection");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public String showPrice(Client client) {
+        return client.send("show price for " + MOVIE + " " + ROOM + " " + DATE + " \"1,1 1,2\"");
+    }
+
+    @Benchmark
+    public String listScreenings(Client client) {
+        return client.send("list screenings");
+    }
+
+    @Benchmark
+    public String describeAccount(Client client) {
+        return client.send("describe account");
+    }
+}
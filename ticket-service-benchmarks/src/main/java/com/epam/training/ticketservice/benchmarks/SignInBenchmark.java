@@ -0,0 +1,66 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.user.PasswordHasher;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignInBenchmark {
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private PasswordHasher passwordHasher;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = TicketServiceContext.start();
+        userService = context.getBean(UserService.class);
+        passwordHasher = context.getBean(PasswordHasher.class);
+        passwordHash = userService.signUp(USERNAME, PASSWORD).unwrap().getPassword();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Result<User> signInAndOut() {
+        userService.signInUnprivileged(USERNAME, PASSWORD).unwrap();
+        return userService.signOut();
+    }
+
+    @Benchmark
+    public Result<User> signInWithWrongPassword() {
+        return userService.signInUnprivileged(USERNAME, "wrong");
+    }
+
+    @Benchmark
+    public boolean verifyPasswordHash() {
+        return passwordHasher.matches(PASSWORD, passwordHash);
+    }
+}
@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.Application;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+final class TicketServiceContext {
+    private TicketServiceContext() {
+    }
+
+    // Boots the application against the in-memory ci database without starting the interactive shell
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(Application.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.profiles.active=ci",
+                        "spring.shell.interactive.enabled=false",
+                        "spring.shell.script.enabled=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
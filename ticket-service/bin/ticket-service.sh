@@ -0,0 +1,15 @@
+#!/bin/sh
+# Starts the ticket service. Uses the class data sharing archive built by `mvn -P cds package` when it exists,
+# otherwise falls back to the executable jar. Arguments are passed on, e.g. --spring.profiles.active=ci
+set -e
+
+base="$(cd "$(dirname "$0")/.." && pwd)"
+cds="$base/target/cds"
+java="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ -f "$cds/ticket-service.jsa" ] && [ -f "$cds/classpath" ]; then
+    # A stale archive (rebuilt jars, moved directory) is ignored by the JVM, which then starts without it
+    exec "$java" -XX:SharedArchiveFile="$cds/ticket-service.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -cp "$(cat "$cds/classpath")" com.epam.training.ticketservice.Application "$@"
+fi
+exec "$java" -jar "$base/target/ticket-service-0.0.1-SNAPSHOT.jar" "$@"
@@ -1,11 +1,20 @@
 package com.epam.training.ticketservice;
 
+import com.epam.training.ticketservice.ui.startup.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import java.util.Arrays;
 
 @SpringBootApplication
 public class Application {
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        var application = new SpringApplication(Application.class);
+        if (Arrays.asList(args).contains(StartupReport.OPTION)) {
+            application.setApplicationStartup(new BufferingApplicationStartup(StartupReport.CAPACITY));
+        }
+        // Closing the context here lets a batch run report failed commands through the exit code
+        System.exit(SpringApplication.exit(application.run(args)));
     }
 }
@@ -0,0 +1,140 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Group commit for bookings: concurrent bookings are saved together in one transaction by a single writer thread, and
+ * each caller's future completes only once its booking is committed. If a batch fails, its bookings are saved one by
+ * one, so only the bookings that can not be saved fail, each to its own caller. Whatever a batch throws, every future
+ * in it completes and the writer goes on with the next batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingGroupCommit {
+    private static final int MAX_BATCH_SIZE = 256;
+    // Callers wait in enqueue once this many bookings are waiting for the writer
+    private static final int MAX_QUEUED = 4 * MAX_BATCH_SIZE;
+
+    private final BookingRepository bookingRepository;
+    private final BlockingQueue<PendingBooking> queue = new ArrayBlockingQueue<>(MAX_QUEUED);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition drained = lock.newCondition();
+    private int pending;
+    private Thread writer;
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::writeLoop, "booking-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+        writer.interrupt();
+    }
+
+    public CompletableFuture<Booking> enqueue(Booking booking) {
+        var saved = new CompletableFuture<Booking>();
+        lock.lock();
+        try {
+            pending++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            queue.put(new PendingBooking(booking, saved));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            done(1);
+            saved.completeExceptionally(e);
+        }
+        return saved;
+    }
+
+    public void flush() {
+        lock.lock();
+        try {
+            while (pending > 0) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        var batch = new ArrayList<PendingBooking>(MAX_BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            try {
+                write(batch);
+            } catch (Throwable e) {
+                log.error("Could not persist a batch of {} bookings", batch.size(), e);
+                batch.forEach(p -> p.saved().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingBooking> batch) {
+        try {
+            bookingRepository.saveAll(batch.stream().map(PendingBooking::booking).toList());
+            batch.forEach(p -> p.saved().complete(p.booking()));
+        } catch (Throwable e) {
+            log.warn("Could not persist a batch of {} bookings, saving them one by one", batch.size(), e);
+            batch.forEach(this::writeAlone);
+        } finally {
+            done(batch.size());
+        }
+    }
+
+    private void writeAlone(PendingBooking pendingBooking) {
+        var booking = pendingBooking.booking();
+        // The rolled back batch may have given it an id that was never committed
+        booking.setId(0);
+        try {
+            pendingBooking.saved().complete(bookingRepository.save(booking));
+        } catch (Throwable e) {
+            log.error("Could not persist booking of {} for {}", booking.getSeats(), booking.getUser().getUsername(), e);
+            pendingBooking.saved().completeExceptionally(e);
+        }
+    }
+
+    private void done(int count) {
+        lock.lock();
+        try {
+            pending -= count;
+            if (pending == 0) {
+                drained.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record PendingBooking(Booking booking, CompletableFuture<Booking> saved) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.user.persistence.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+public interface BookingService {
+    Result<Booking> book(String movieTitle, String roomName, LocalDateTime date, List<Seat> seats);
+
+    List<Booking> getBookings(User user);
+
+    Result<Flow.Publisher<SeatMapDelta>> getSeatMapUpdates(String movieTitle, String roomName, LocalDateTime date);
+}
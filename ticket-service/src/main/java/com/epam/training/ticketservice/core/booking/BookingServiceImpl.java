@@ -0,0 +1,97 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.booking.persistence.PriceSnapshot;
+import com.epam.training.ticketservice.core.pricing.PricingService;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class BookingServiceImpl implements BookingService {
+    private final UserService userService;
+    private final ScreeningService screeningService;
+    private final PricingService pricingService;
+    private final BookingRepository bookingRepository;
+    private final SeatMapRegistry seatMapRegistry;
+    private final BookingGroupCommit bookingGroupCommit;
+    private final Duration commitTimeout;
+
+    public BookingServiceImpl(UserService userService, ScreeningService screeningService,
+                              PricingService pricingService, BookingRepository bookingRepository,
+                              SeatMapRegistry seatMapRegistry, BookingGroupCommit bookingGroupCommit,
+                              @Value("${ticket-service.booking.commit-timeout:PT30S}") Duration commitTimeout) {
+        this.userService = userService;
+        this.screeningService = screeningService;
+        this.pricingService = pricingService;
+        this.bookingRepository = bookingRepository;
+        this.seatMapRegistry = seatMapRegistry;
+        this.bookingGroupCommit = bookingGroupCommit;
+        this.commitTimeout = commitTimeout;
+    }
+
+    @Override
+    public Result<Booking> book(String movieTitle, String roomName, LocalDateTime date, List<Seat> seats) {
+        if (seats.size() > Booking.MAX_SEATS) {
+            return Result.err(ErrorCode.TOO_MANY_SEATS.with(Booking.MAX_SEATS));
+        }
+        return userService.ensureUnprivileged().flatMap(user ->
+                screeningService.ensureScreeningExists(movieTitle, roomName, date).flatMap(screening -> {
+                    var seatMap = seatMapRegistry.seatMapOf(screening);
+                    var pricePlan = pricingService.getPricePlan(screening);
+                    return seatMap.reserve(seats).flatMap(reserved -> {
+                        var booking = new Booking(user, screening, reserved,
+                                PriceSnapshot.of(pricePlan, reserved.size()));
+                        // The booking is only confirmed once it is committed
+                        return awaitCommit(bookingGroupCommit.enqueue(booking), seatMap, reserved);
+                    });
+                })
+        );
+    }
+
+    private Result<Booking> awaitCommit(CompletableFuture<Booking> saved, SeatMap seatMap, List<Seat> reserved) {
+        try {
+            return Result.ok(saved.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            seatMap.release(reserved);
+            return Result.err(ErrorCode.BOOKING_NOT_SAVED);
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // The booking may still be committed, so its seats are only given back if it turns out it was not
+            saved.whenComplete((booking, failure) -> {
+                if (failure != null) {
+                    seatMap.release(reserved);
+                }
+            });
+            return Result.err(ErrorCode.BOOKING_NOT_CONFIRMED);
+        }
+    }
+
+    @Override
+    public List<Booking> getBookings(User user) {
+        bookingGroupCommit.flush();
+        return bookingRepository.findByUser(user);
+    }
+
+    @Override
+    public Result<Flow.Publisher<SeatMapDelta>> getSeatMapUpdates(String movieTitle, String roomName,
+                                                                  LocalDateTime date) {
+        return screeningService.ensureScreeningExists(movieTitle, roomName, date).map(seatMapRegistry::seatMapOf);
+    }
+}
@@ -0,0 +1,49 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record Seat(int row, int col) {
+    public static Seat parse(String seat) {
+        var parts = seat.trim().split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid seat: " + seat);
+        }
+        return new Seat(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    public static List<Seat> parseAll(String seats) {
+        return Arrays.stream(seats.trim().split("\\s+"))
+                .map(Seat::parse)
+                .collect(Collectors.toList());
+    }
+
+    // For seats typed by a user, where a typo is an ordinary outcome rather than a bug
+    public static Result<List<Seat>> tryParseAll(String seats) {
+        var parsed = new ArrayList<Seat>();
+        for (var seat : seats.trim().split("\\s+")) {
+            try {
+                parsed.add(parse(seat));
+            } catch (IllegalArgumentException e) {
+                return Result.err(ErrorCode.INVALID_SEAT.with(seat));
+            }
+        }
+        return Result.ok(parsed);
+    }
+
+    public static String format(List<Seat> seats) {
+        return seats.stream()
+                .map(Seat::toString)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%s,%s)", row, col);
+    }
+}
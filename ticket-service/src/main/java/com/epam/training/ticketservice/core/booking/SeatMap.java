@@ -0,0 +1,221 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * The occupancy of one screening, one bit per seat. Subscribers get the current occupancy first and the seats flipped
+ * since then after that, as SeatMapDelta, see SeatMapSubscription.
+ */
+public class SeatMap implements Flow.Publisher<SeatMapDelta> {
+    private static final int MAX_STRIPES = 16;
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    // Every row starts on a fresh word, so seats guarded by different stripes never share a word
+    private final AtomicLongArray occupied;
+    private final ReentrantLock[] stripes;
+    // Subscribed and closed while holding every stripe, a change is published to exactly the subscribers whose
+    // snapshot does not contain it yet
+    private final List<SeatMapSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    // Counts the changes, version 0 is the empty map
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private boolean closed;
+
+    public SeatMap(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + Long.SIZE - 1) / Long.SIZE;
+        this.occupied = new AtomicLongArray(rows * wordsPerRow);
+        this.stripes = new ReentrantLock[Math.max(1, Math.min(rows, MAX_STRIPES))];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean fits(Room room) {
+        return rows == room.getRows() && cols == room.getCols();
+    }
+
+    public boolean exists(Seat seat) {
+        return seat.row() >= 1 && seat.row() <= rows && seat.col() >= 1 && seat.col() <= cols;
+    }
+
+    public boolean isFree(Seat seat) {
+        return exists(seat) && (occupied.get(wordOf(seat)) & bitOf(seat)) == 0;
+    }
+
+    public Result<List<Seat>> reserve(List<Seat> seats) {
+        var lockedStripes = lockStripesOf(seats);
+        try {
+            var requested = new long[occupied.length()];
+            for (var seat : seats) {
+                if (!exists(seat)) {
+                    return Result.err(ErrorCode.SEAT_DOES_NOT_EXIST.with(seat));
+                }
+                int word = wordOf(seat);
+                long bit = bitOf(seat);
+                if (((occupied.get(word) | requested[word]) & bit) != 0) {
+                    return Result.err(ErrorCode.SEAT_TAKEN.with(seat));
+                }
+                requested[word] |= bit;
+            }
+            for (int i = 0; i < requested.length; i++) {
+                if (requested[i] != 0) {
+                    occupied.set(i, occupied.get(i) | requested[i]);
+                }
+            }
+            publish(requested);
+            return Result.ok(seats);
+        } finally {
+            unlock(lockedStripes);
+        }
+    }
+
+    public void occupy(List<Seat> seats) {
+        update(seats, true);
+    }
+
+    public void release(List<Seat> seats) {
+        update(seats, false);
+    }
+
+    private void update(List<Seat> seats, boolean occupy) {
+        var lockedStripes = lockStripesOf(seats);
+        try {
+            var flipped = new long[occupied.length()];
+            seats.stream().filter(this::exists).forEach(seat -> {
+                int word = wordOf(seat);
+                long bit = bitOf(seat);
+                long before = occupied.get(word);
+                long after = occupy ? before | bit : before & ~bit;
+                occupied.set(word, after);
+                flipped[word] |= before ^ after;
+            });
+            publish(flipped);
+        } finally {
+            unlock(lockedStripes);
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SeatMapDelta> subscriber) {
+        SeatMapSubscription subscription;
+        boolean alreadyClosed;
+        var allStripes = lockAllStripes();
+        try {
+            // No seat changes while every stripe is held, the snapshot is exactly the map at the current version
+            var snapshot = new long[occupied.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = occupied.get(i);
+            }
+            subscription = new SeatMapSubscription(subscriptions, subscriber, wordsPerRow, snapshot, version.get());
+            alreadyClosed = closed;
+            if (!alreadyClosed) {
+                subscriptions.add(subscription);
+            }
+        } finally {
+            unlock(allStripes);
+        }
+        subscriber.onSubscribe(subscription);
+        if (alreadyClosed) {
+            subscription.complete();
+        }
+    }
+
+    // Completes every subscription, for when the map is replaced by a fresh one
+    public void close() {
+        List<SeatMapSubscription> closing;
+        var allStripes = lockAllStripes();
+        try {
+            closed = true;
+            closing = List.copyOf(subscriptions);
+            subscriptions.clear();
+        } finally {
+            unlock(allStripes);
+        }
+        closing.forEach(SeatMapSubscription::complete);
+    }
+
+    private void publish(long[] flipped) {
+        if (!anySet(flipped)) {
+            return;
+        }
+        if (subscriptions.isEmpty()) {
+            version.incrementAndGet();
+            return;
+        }
+        // Writers on different stripes publish one at a time, so each subscriber sees the versions in order
+        publishLock.lock();
+        try {
+            var current = version.incrementAndGet();
+            subscriptions.forEach(subscription -> subscription.flip(current, flipped));
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private static boolean anySet(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean[] lockAllStripes() {
+        var all = new boolean[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i].lock();
+            all[i] = true;
+        }
+        return all;
+    }
+
+    private boolean[] lockStripesOf(List<Seat> seats) {
+        var needed = new boolean[stripes.length];
+        for (var seat : seats) {
+            if (exists(seat)) {
+                needed[stripeOf(seat)] = true;
+            }
+        }
+        // Always lock in ascending stripe order so overlapping requests can not deadlock
+        for (int i = 0; i < needed.length; i++) {
+            if (needed[i]) {
+                stripes[i].lock();
+            }
+        }
+        return needed;
+    }
+
+    private void unlock(boolean[] lockedStripes) {
+        for (int i = lockedStripes.length - 1; i >= 0; i--) {
+            if (lockedStripes[i]) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    private int stripeOf(Seat seat) {
+        return (seat.row() - 1) % stripes.length;
+    }
+
+    private int wordOf(Seat seat) {
+        return (seat.row() - 1) * wordsPerRow + (seat.col() - 1) / Long.SIZE;
+    }
+
+    private long bitOf(Seat seat) {
+        return 1L << ((seat.col() - 1) % Long.SIZE);
+    }
+}
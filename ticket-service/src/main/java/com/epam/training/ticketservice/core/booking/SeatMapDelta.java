@@ -0,0 +1,23 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The seats of a screening that changed state between two versions of its seat map, as the bits flipped in each
+ * changed word of the map. Version 0 is the empty map and a subscriber's first delta starts there, so applying every
+ * delta in order reproduces the current occupancy. Deltas the subscriber was too slow to take are merged into one.
+ */
+public record SeatMapDelta(long fromVersion, long toVersion, int wordsPerRow, int[] words, long[] flipped) {
+    public List<Seat> seats() {
+        var seats = new ArrayList<Seat>();
+        for (int i = 0; i < words.length; i++) {
+            int row = words[i] / wordsPerRow + 1;
+            int firstCol = words[i] % wordsPerRow * Long.SIZE + 1;
+            for (long bits = flipped[i]; bits != 0; bits &= bits - 1) {
+                seats.add(new Seat(row, firstCol + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        return seats;
+    }
+}
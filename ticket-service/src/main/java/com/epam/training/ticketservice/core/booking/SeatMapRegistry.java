@@ -0,0 +1,44 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class SeatMapRegistry {
+    private final BookingRepository bookingRepository;
+    private final BookingGroupCommit bookingGroupCommit;
+    private final Map<Integer, SeatMap> seatMapsByScreening = new ConcurrentHashMap<>();
+
+    public SeatMap seatMapOf(Screening screening) {
+        var room = screening.getRoom();
+        var seatMap = seatMapsByScreening.get(screening.getId());
+        if (seatMap != null && seatMap.fits(room)) {
+            return seatMap;
+        }
+        return seatMapsByScreening.compute(screening.getId(), (id, current) -> {
+            if (current != null && current.fits(room)) {
+                return current;
+            }
+            if (current != null) {
+                current.close();
+            }
+            var loaded = new SeatMap(room.getRows(), room.getCols());
+            bookingGroupCommit.flush();
+            bookingRepository.findByScreening(screening).forEach(b -> loaded.occupy(b.getSeats()));
+            return loaded;
+        });
+    }
+
+    public void evict(Screening screening) {
+        var seatMap = seatMapsByScreening.remove(screening.getId());
+        if (seatMap != null) {
+            seatMap.close();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Collects the flips of one subscriber and hands them over on its own thread, never on the booking's
+class SeatMapSubscription implements Flow.Subscription {
+    private static final Executor DELIVERY = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final List<SeatMapSubscription> subscriptions;
+    private final Flow.Subscriber<? super SeatMapDelta> subscriber;
+    private final int wordsPerRow;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Flips not delivered yet, a subscriber without demand gets everything since its last delta as a single one
+    private final long[] pending;
+    private boolean dirty;
+    private long deliveredVersion;
+    private long latestVersion;
+    private long demand;
+    private boolean draining;
+    private boolean completed;
+    private boolean terminated;
+    private Throwable error;
+
+    SeatMapSubscription(List<SeatMapSubscription> subscriptions, Flow.Subscriber<? super SeatMapDelta> subscriber,
+                        int wordsPerRow, long[] occupied, long version) {
+        this.subscriptions = subscriptions;
+        this.subscriber = subscriber;
+        this.wordsPerRow = wordsPerRow;
+        this.pending = occupied;
+        this.dirty = true;
+        this.latestVersion = version;
+    }
+
+    void flip(long version, long[] flipped) {
+        lock.lock();
+        try {
+            for (int i = 0; i < flipped.length; i++) {
+                pending[i] ^= flipped[i];
+            }
+            dirty = true;
+            latestVersion = version;
+            scheduleDelivery();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void complete() {
+        lock.lock();
+        try {
+            completed = true;
+            scheduleDelivery();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        lock.lock();
+        try {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand = n > Long.MAX_VALUE - demand ? Long.MAX_VALUE : demand + n;
+            }
+            scheduleDelivery();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        lock.lock();
+        try {
+            terminated = true;
+        } finally {
+            lock.unlock();
+        }
+        subscriptions.remove(this);
+    }
+
+    private void scheduleDelivery() {
+        if (!draining && !terminated && (error != null || completed || demand > 0 && dirty)) {
+            draining = true;
+            DELIVERY.execute(this::deliver);
+        }
+    }
+
+    // Only one delivery runs at a time, so the subscriber is never called concurrently
+    private void deliver() {
+        while (true) {
+            SeatMapDelta delta = null;
+            Throwable failure = null;
+            lock.lock();
+            try {
+                if (terminated) {
+                    draining = false;
+                    return;
+                }
+                if (error != null) {
+                    failure = error;
+                    terminated = true;
+                } else if (demand > 0 && dirty) {
+                    delta = takeDelta();
+                } else if (completed) {
+                    terminated = true;
+                } else {
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (failure != null) {
+                subscriptions.remove(this);
+                subscriber.onError(failure);
+                return;
+            }
+            if (delta == null) {
+                subscriber.onComplete();
+                return;
+            }
+            try {
+                subscriber.onNext(delta);
+            } catch (RuntimeException e) {
+                cancel();
+                return;
+            }
+        }
+    }
+
+    private SeatMapDelta takeDelta() {
+        int count = 0;
+        for (long word : pending) {
+            if (word != 0) {
+                count++;
+            }
+        }
+        var words = new int[count];
+        var flipped = new long[count];
+        for (int i = 0, j = 0; i < pending.length; i++) {
+            if (pending[i] != 0) {
+                words[j] = i;
+                flipped[j++] = pending[i];
+                pending[i] = 0;
+            }
+        }
+        dirty = false;
+        demand--;
+        long fromVersion = deliveredVersion;
+        deliveredVersion = latestVersion;
+        return new SeatMapDelta(fromVersion, latestVersion, wordsPerRow, words, flipped);
+    }
+}
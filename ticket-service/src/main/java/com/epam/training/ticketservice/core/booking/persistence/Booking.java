@@ -0,0 +1,60 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.util.List;
+
+@Entity
+@Table(name = "Bookings")
+@Data
+@NoArgsConstructor
+public class Booking {
+    // The seats column holds this many seats with up to five digit rows and columns, see SeatListConverter
+    public static final int MAX_SEATS = 1000;
+    private static final int SEATS_COLUMN_LENGTH = 16384;
+
+    @Id
+    @SequenceGenerator(name = "booking_id", sequenceName = "hibernate_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id")
+    private int id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "username", nullable = false)
+    private User user;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "screening_id", nullable = false)
+    private Screening screening;
+
+    @Convert(converter = SeatListConverter.class)
+    @Column(length = SEATS_COLUMN_LENGTH)
+    private List<Seat> seats;
+
+    @Embedded
+    @Setter(AccessLevel.NONE)
+    private PriceSnapshot price;
+
+    public Booking(User user, Screening screening, List<Seat> seats, PriceSnapshot price) {
+        this.user = user;
+        this.screening = screening;
+        this.seats = seats;
+        this.price = price;
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface BookingRepository extends JpaRepository<Booking, Integer> {
+    List<Booking> findByScreening(Screening screening);
+
+    boolean existsByScreening(Screening screening);
+
+    @EntityGraph(attributePaths = {"screening.movie", "screening.room"})
+    List<Booking> findByUser(User user);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select b.id as id, b.user.username as username, b.screening.id as screeningId, b.seats as seats,"
+            + " b.price as price from Booking b order by b.id")
+    Stream<BookingSummary> streamAllSummaries();
+}
@@ -0,0 +1,17 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import java.util.List;
+
+public interface BookingSummary {
+    int getId();
+
+    String getUsername();
+
+    int getScreeningId();
+
+    List<Seat> getSeats();
+
+    PriceSnapshot getPrice();
+}
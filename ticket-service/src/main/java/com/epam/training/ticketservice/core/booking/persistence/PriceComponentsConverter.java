@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Converter
+public class PriceComponentsConverter implements AttributeConverter<Map<String, Integer>, String> {
+    // Component names are single shell arguments, so they can not contain a line break
+    private static final String SEPARATOR = "\n";
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> components) {
+        return components.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String components) {
+        var result = new TreeMap<String, Integer>();
+        if (components == null || components.isEmpty()) {
+            return Collections.unmodifiableMap(result);
+        }
+        for (var component : components.split(SEPARATOR)) {
+            int split = component.lastIndexOf('=');
+            result.put(component.substring(0, split), Integer.parseInt(component.substring(split + 1)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
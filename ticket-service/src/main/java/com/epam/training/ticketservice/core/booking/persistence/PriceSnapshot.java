@@ -0,0 +1,44 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Embeddable;
+import java.util.Map;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceSnapshot {
+    @Column(name = "price")
+    private int total;
+
+    @Column(name = "seat_price")
+    private int seatPrice;
+
+    @Column(name = "base_price")
+    private int basePrice;
+
+    @Column(name = "price_components", length = 1024)
+    @Convert(converter = PriceComponentsConverter.class)
+    private Map<String, Integer> components;
+
+    private PriceSnapshot(int total, int seatPrice, int basePrice, Map<String, Integer> components) {
+        this.total = total;
+        this.seatPrice = seatPrice;
+        this.basePrice = basePrice;
+        this.components = components;
+    }
+
+    public static PriceSnapshot of(PricePlan plan, int seats) {
+        return new PriceSnapshot(plan.priceFor(seats), plan.pricePerSeat(), plan.basePrice(), plan.components());
+    }
+}
@@ -0,0 +1,23 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Converter
+public class SeatListConverter implements AttributeConverter<List<Seat>, String> {
+    @Override
+    public String convertToDatabaseColumn(List<Seat> seats) {
+        return seats.stream()
+                .map(seat -> seat.row() + "," + seat.col())
+                .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public List<Seat> convertToEntityAttribute(String seats) {
+        return Seat.parseAll(seats);
+    }
+}
@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.cache;
+
+public record CacheStats(long hits, long misses, long evictions, int size, int maximumSize) {
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
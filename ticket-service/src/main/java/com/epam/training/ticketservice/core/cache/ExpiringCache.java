@@ -0,0 +1,109 @@
+package com.epam.training.ticketservice.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class ExpiringCache<K, V> {
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<K, Object> loads = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ExpiringCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maximumSize, Duration timeToLive, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        // Access order turns the map into an LRU list, the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringCache.this.maximumSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value());
+    }
+
+    public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+        var token = new Object();
+        synchronized (this) {
+            var cached = get(key);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            loads.put(key, token);
+        }
+        // Loaded outside the lock so a slow lookup does not block hits on other keys, absent values are not cached.
+        // Invalidating the key drops its load token, so a load that raced an update does not put the old value back.
+        Optional<V> loaded = Optional.empty();
+        try {
+            loaded = loader.apply(key);
+            return loaded;
+        } finally {
+            finishLoad(key, token, loaded);
+        }
+    }
+
+    private synchronized void finishLoad(K key, Object token, Optional<V> loaded) {
+        if (loads.remove(key, token)) {
+            loaded.ifPresent(value -> put(key, value));
+        }
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.instant().plus(timeToLive)));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        loads.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        loads.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), maximumSize);
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.epam.training.ticketservice.core.catalogue;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Moves forward after every committed change to the movies, rooms or screenings, never backwards. Anything derived
+// from the catalogue can be reused for as long as the version it was derived at is still the current one.
+// Versions count from 0 at every boot, the tag of a version adds the boot time, so a version handed out before a
+// restart is not mistaken for one after it.
+@Component
+public class CatalogueVersion {
+    private final long bootMillis;
+    private final AtomicLong version = new AtomicLong();
+
+    public CatalogueVersion() {
+        this(Clock.systemUTC());
+    }
+
+    public CatalogueVersion(Clock clock) {
+        this.bootMillis = clock.millis();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public String tagOf(long version) {
+        return bootMillis + "-" + version;
+    }
+
+    public void bump() {
+        version.incrementAndGet();
+    }
+}
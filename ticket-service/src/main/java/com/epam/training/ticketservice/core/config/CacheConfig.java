@@ -0,0 +1,27 @@
+package com.epam.training.ticketservice.core.config;
+
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    @Bean
+    public ExpiringCache<String, Movie> movieCache(
+            @Value("${ticket-service.cache.movies.size:1000}") int size,
+            @Value("${ticket-service.cache.movies.ttl:PT10M}") Duration ttl) {
+        return new ExpiringCache<>(size, ttl);
+    }
+
+    @Bean
+    public ExpiringCache<String, Room> roomCache(
+            @Value("${ticket-service.cache.rooms.size:100}") int size,
+            @Value("${ticket-service.cache.rooms.ttl:PT10M}") Duration ttl) {
+        return new ExpiringCache<>(size, ttl);
+    }
+}
@@ -1,22 +0,0 @@
-package com.epam.training.ticketservice.core.config;
-
-import com.epam.training.ticketservice.core.user.persistence.User;
-import com.epam.training.ticketservice.core.user.persistence.UserRepository;
-
-import javax.annotation.PostConstruct;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor
-public class InMemoryDatabaseInitializer {
-
-    private final UserRepository userRepository;
-
-    @PostConstruct
-    public void init() {
-        User admin = new User("admin", "admin", User.Role.ADMIN);
-        userRepository.save(admin);
-    }
-}
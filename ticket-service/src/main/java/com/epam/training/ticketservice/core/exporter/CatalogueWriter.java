@@ -0,0 +1,218 @@
+package com.epam.training.ticketservice.core.exporter;
+
+import com.epam.training.ticketservice.core.booking.persistence.BookingSummary;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePrice;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponent;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningSummary;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import com.epam.training.ticketservice.core.user.persistence.User;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Catalogue snapshot format, version 1:
+ *
+ *   magic "TKTS", version byte, then records each starting with their type byte, up to an END record
+ *   followed by the number of records written before it.
+ *
+ *   MOVIE        title, genre, runtime
+ *   ROOM         name, rows, cols
+ *   SCREENING    id, movie index, room index, start minute
+ *   USER         username, password hash, role ordinal
+ *   BOOKING      id, username, screening id, seat count, (row, col)..., total, seat price, base price,
+ *                component count, (name, amount)...
+ *   BASE_PRICE   amount
+ *   COMPONENT    name, amount
+ *   ATTACHMENT   component name, target ordinal, target key
+ *
+ * Numbers are unsigned LEB128 varints, except the start minute (minutes since 1970-01-01T00:00) which is
+ * zigzag encoded first. Strings are a varint of their UTF-8 length plus one, 0 standing for null, then the bytes.
+ * Screenings refer to movies and rooms by their position among the MOVIE and ROOM records, which precede them.
+ */
+public class CatalogueWriter implements Closeable {
+    static final byte[] MAGIC = {'T', 'K', 'T', 'S'};
+    static final int VERSION = 1;
+
+    static final int END = 0;
+    static final int MOVIE = 1;
+    static final int ROOM = 2;
+    static final int SCREENING = 3;
+    static final int USER = 4;
+    static final int BOOKING = 5;
+    static final int BASE_PRICE = 6;
+    static final int COMPONENT = 7;
+    static final int ATTACHMENT = 8;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Integer> movieIndexes = new HashMap<>();
+    private final Map<String, Integer> roomIndexes = new HashMap<>();
+    private final long[] counts = new long[ATTACHMENT + 1];
+    private long bytesWritten;
+
+    public CatalogueWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        buffer.put(MAGIC).put((byte) VERSION);
+    }
+
+    public void movie(Movie movie) {
+        movieIndexes.put(movie.getTitle(), movieIndexes.size());
+        startRecord(MOVIE);
+        writeString(movie.getTitle());
+        writeString(movie.getGenre());
+        writeVarLong(movie.getRuntimeInMinutes());
+    }
+
+    public void room(Room room) {
+        roomIndexes.put(room.getName(), roomIndexes.size());
+        startRecord(ROOM);
+        writeString(room.getName());
+        writeVarLong(room.getRows());
+        writeVarLong(room.getCols());
+    }
+
+    public void screening(ScreeningSummary screening) {
+        startRecord(SCREENING);
+        writeVarLong(screening.getId());
+        writeVarLong(movieIndexes.get(screening.getMovieTitle()));
+        writeVarLong(roomIndexes.get(screening.getRoomName()));
+        writeSignedVarLong(DateTimes.toEpochMinute(screening.getDate()));
+    }
+
+    public void user(User user) {
+        startRecord(USER);
+        writeString(user.getUsername());
+        writeString(user.getPassword());
+        writeVarLong(user.getRole().ordinal());
+    }
+
+    public void booking(BookingSummary booking) {
+        startRecord(BOOKING);
+        writeVarLong(booking.getId());
+        writeString(booking.getUsername());
+        writeVarLong(booking.getScreeningId());
+        writeVarLong(booking.getSeats().size());
+        for (var seat : booking.getSeats()) {
+            writeVarLong(seat.row());
+            writeVarLong(seat.col());
+        }
+        var price = booking.getPrice();
+        writeVarLong(price.getTotal());
+        writeVarLong(price.getSeatPrice());
+        writeVarLong(price.getBasePrice());
+        writeVarLong(price.getComponents().size());
+        for (var component : price.getComponents().entrySet()) {
+            writeString(component.getKey());
+            writeSignedVarLong(component.getValue());
+        }
+    }
+
+    public void basePrice(BasePrice basePrice) {
+        startRecord(BASE_PRICE);
+        writeVarLong(basePrice.getAmount());
+    }
+
+    public void component(PriceComponent component) {
+        startRecord(COMPONENT);
+        writeString(component.getName());
+        writeSignedVarLong(component.getAmount());
+    }
+
+    public void attachment(PriceAttachment attachment) {
+        startRecord(ATTACHMENT);
+        writeString(attachment.getComponent().getName());
+        writeVarLong(attachment.getTarget().ordinal());
+        writeString(attachment.getTargetKey());
+    }
+
+    public long count(int recordType) {
+        return counts[recordType];
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten + buffer.position();
+    }
+
+    // Writes the END record and drains the buffer, the channel itself stays open
+    public void finish() {
+        long records = 0;
+        for (var count : counts) {
+            records += count;
+        }
+        ensureRemaining(1);
+        buffer.put((byte) END);
+        writeVarLong(records);
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void startRecord(int recordType) {
+        counts[recordType]++;
+        ensureRemaining(1);
+        buffer.put((byte) recordType);
+    }
+
+    private void writeVarLong(long value) {
+        ensureRemaining(MAX_VARINT_LENGTH);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        for (int offset = 0; offset < bytes.length; ) {
+            ensureRemaining(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    // Record writers are called from repository streams, so channel failures travel up unchecked
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
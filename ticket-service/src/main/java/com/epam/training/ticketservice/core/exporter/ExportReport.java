@@ -0,0 +1,5 @@
+package com.epam.training.ticketservice.core.exporter;
+
+public record ExportReport(long movies, long rooms, long screenings, long users, long bookings,
+                           long priceComponents, long priceAttachments, long bytes) {
+}
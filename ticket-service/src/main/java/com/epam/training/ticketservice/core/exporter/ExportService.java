@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.exporter;
+
+import com.epam.training.ticketservice.core.result.Result;
+
+import java.nio.file.Path;
+
+public interface ExportService {
+    Result<ExportReport> exportCatalogue(Path file);
+}
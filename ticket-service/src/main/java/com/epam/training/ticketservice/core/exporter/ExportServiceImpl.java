@@ -0,0 +1,122 @@
+package com.epam.training.ticketservice.core.exporter;
+
+import com.epam.training.ticketservice.core.booking.BookingGroupCommit;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePriceRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+    private static final int DETACH_INTERVAL = 1000;
+
+    private final UserService userService;
+    private final MovieRepository movieRepository;
+    private final RoomRepository roomRepository;
+    private final ScreeningRepository screeningRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingGroupCommit bookingGroupCommit;
+    private final BasePriceRepository basePriceRepository;
+    private final PriceComponentRepository priceComponentRepository;
+    private final PriceAttachmentRepository priceAttachmentRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public Result<ExportReport> exportCatalogue(Path file) {
+        return userService.ensurePrivileged().flatMap(u -> {
+            // A failed export must not leave a truncated snapshot where a good one was before
+            var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            // Bookings confirmed before the export started belong in the snapshot
+            bookingGroupCommit.flush();
+            try {
+                ExportReport report;
+                try (var writer = new CatalogueWriter(FileChannel.open(temporary, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+                    var transaction = new TransactionTemplate(transactionManager);
+                    transaction.setReadOnly(true);
+                    // The tables are read one after the other, they must all come from the same point in time
+                    transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+                    transaction.executeWithoutResult(status -> writeAll(writer));
+                    report = reportOf(writer);
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return Result.ok(report);
+            } catch (NoSuchFileException e) {
+                return Result.err(ErrorCode.EXPORT_DIRECTORY_NOT_FOUND.with(file.toAbsolutePath().getParent()));
+            } catch (IOException | UncheckedIOException e) {
+                return Result.err(ErrorCode.EXPORT_WRITE_FAILED.with(file, String.valueOf(e.getMessage())));
+            } finally {
+                // Already moved away on success, left behind by any failure including unexpected ones
+                deleteQuietly(temporary);
+            }
+        });
+    }
+
+    private void writeAll(CatalogueWriter writer) {
+        writeEach(movieRepository.streamAllByOrderByTitle(), writer::movie);
+        writeEach(roomRepository.streamAllByOrderByName(), writer::room);
+        writeEach(screeningRepository.streamAllSummaries(), writer::screening);
+        writeEach(userRepository.streamAllByOrderByUsername(), writer::user);
+        writeEach(bookingRepository.streamAllSummaries(), writer::booking);
+        // Pricing rules are a handful of rows, they are not worth a cursor
+        basePriceRepository.findAll().forEach(writer::basePrice);
+        priceComponentRepository.findAll().forEach(writer::component);
+        priceAttachmentRepository.findAll().forEach(writer::attachment);
+        writer.finish();
+    }
+
+    private <T> void writeEach(Stream<T> rows, Consumer<T> write) {
+        try (rows) {
+            var written = new int[1];
+            rows.forEach(row -> {
+                write.accept(row);
+                // Streamed entities would otherwise pile up in the persistence context until the end
+                if (++written[0] % DETACH_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    private static ExportReport reportOf(CatalogueWriter writer) {
+        return new ExportReport(writer.count(CatalogueWriter.MOVIE), writer.count(CatalogueWriter.ROOM),
+                writer.count(CatalogueWriter.SCREENING), writer.count(CatalogueWriter.USER),
+                writer.count(CatalogueWriter.BOOKING), writer.count(CatalogueWriter.COMPONENT),
+                writer.count(CatalogueWriter.ATTACHMENT), writer.getBytesWritten());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // The original error is the one worth reporting
+        }
+    }
+}
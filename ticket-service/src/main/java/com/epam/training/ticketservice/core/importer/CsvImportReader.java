@@ -0,0 +1,92 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class CsvImportReader implements ImportReader {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String COMMENT = "#";
+
+    private final BufferedReader reader;
+    private long row;
+
+    public CsvImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<Result<ImportRow>> next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return Optional.empty();
+            }
+            row++;
+        } while (line.isBlank() || line.startsWith(COMMENT));
+
+        return Optional.of(split(line).flatMap(CsvImportReader::toRow));
+    }
+
+    @Override
+    public long row() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static Result<ImportRow> toRow(List<String> fields) {
+        var type = fields.get(0).trim();
+        if (fields.size() != 4) {
+            return Result.err(ErrorCode.IMPORT_FIELD_COUNT.with(fields.size()));
+        }
+        return switch (type) {
+            case "movie" -> ImportRow.movie(fields.get(1), fields.get(2), fields.get(3));
+            case "room" -> ImportRow.room(fields.get(1), fields.get(2), fields.get(3));
+            case "screening" -> ImportRow.screening(fields.get(1), fields.get(2), fields.get(3));
+            default -> Result.err(ErrorCode.IMPORT_UNKNOWN_ROW_TYPE.with(type));
+        };
+    }
+
+    // Fields may be quoted to contain separators, a doubled quote inside quotes stands for a single one
+    static Result<List<String>> split(String line) {
+        var fields = new ArrayList<String>(4);
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return Result.err(ErrorCode.IMPORT_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return Result.ok(fields);
+    }
+}
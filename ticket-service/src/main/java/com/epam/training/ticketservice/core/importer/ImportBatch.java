@@ -0,0 +1,142 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
+import com.epam.training.ticketservice.core.screening.RoomSchedule;
+import com.epam.training.ticketservice.core.screening.ScreeningConflictDetector;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Validates rows against the database and the rows accepted before them, all within the caller's transaction
+@RequiredArgsConstructor
+class ImportBatch {
+    static final int FLUSH_INTERVAL = 1000;
+
+    private final MovieRepository movieRepository;
+    private final RoomRepository roomRepository;
+    private final ScreeningRepository screeningRepository;
+    private final EntityManager entityManager;
+
+    private final Map<String, Optional<Movie>> movies = new HashMap<>();
+    private final Map<String, Optional<Room>> rooms = new HashMap<>();
+    private final Map<String, RoomSchedule> schedules = new HashMap<>();
+    private final List<Screening> screenings = new ArrayList<>();
+    private final List<ImportReport.RowError> errors = new ArrayList<>();
+    private int movieCount;
+    private int roomCount;
+    private int unflushed;
+    private long lastRow;
+
+    void add(long row, Result<ImportRow> parsed) {
+        lastRow = row;
+        parsed.flatMap(this::apply)
+                .toOptional()
+                .ifPresent(failure -> errors.add(new ImportReport.RowError(row, failure)));
+    }
+
+    void flush() {
+        entityManager.flush();
+        // Detaching keeps the persistence context, and so every following flush, small
+        entityManager.clear();
+        unflushed = 0;
+    }
+
+    long getLastRow() {
+        return lastRow;
+    }
+
+    List<Screening> getScreenings() {
+        return screenings;
+    }
+
+    ImportReport report() {
+        return new ImportReport(movieCount, roomCount, screenings.size(), errors);
+    }
+
+    private Result<?> apply(ImportRow row) {
+        if (row instanceof ImportRow.MovieRow movie) {
+            return addMovie(movie);
+        }
+        if (row instanceof ImportRow.RoomRow room) {
+            return addRoom(room);
+        }
+        return addScreening((ImportRow.ScreeningRow) row);
+    }
+
+    private Result<Movie> addMovie(ImportRow.MovieRow row) {
+        if (movieOf(row.title()).isPresent()) {
+            return Result.err(ErrorCode.MOVIE_EXISTS);
+        }
+        var movie = new Movie(row.title(), row.genre(), row.runtimeInMinutes());
+        persist(movie);
+        movies.put(movie.getTitle(), Optional.of(movie));
+        movieCount++;
+        return Result.ok(movie);
+    }
+
+    private Result<Room> addRoom(ImportRow.RoomRow row) {
+        if (roomOf(row.name()).isPresent()) {
+            return Result.err(ErrorCode.ROOM_EXISTS);
+        }
+        var room = new Room(row.name(), row.rows(), row.cols());
+        persist(room);
+        rooms.put(room.getName(), Optional.of(room));
+        roomCount++;
+        return Result.ok(room);
+    }
+
+    private Result<Screening> addScreening(ImportRow.ScreeningRow row) {
+        return Result.fromOptional(movieOf(row.movieTitle()), ErrorCode.MOVIE_NOT_FOUND).flatMap(movie ->
+                Result.fromOptional(roomOf(row.roomName()), ErrorCode.ROOM_NOT_FOUND).flatMap(room -> {
+                    var schedule = scheduleOf(room);
+                    var conflict = schedule.findConflict(DateTimes.toEpochMinute(row.date()),
+                            movie.getRuntimeInMinutes(), ScreeningService.BREAK_LENGTH_IN_MINUTES);
+                    if (conflict != ScreeningConflictDetector.Conflict.NONE) {
+                        return Result.err(conflict.getErrorCode());
+                    }
+
+                    var screening = new Screening(movie, room, row.date());
+                    persist(screening);
+                    schedule.add(ScreeningInterval.of(screening));
+                    screenings.add(screening);
+                    return Result.ok(screening);
+                })
+        );
+    }
+
+    private Optional<Movie> movieOf(String title) {
+        return movies.computeIfAbsent(title, movieRepository::findById);
+    }
+
+    private Optional<Room> roomOf(String name) {
+        return rooms.computeIfAbsent(name, roomRepository::findById);
+    }
+
+    private RoomSchedule scheduleOf(Room room) {
+        return schedules.computeIfAbsent(room.getName(),
+                name -> new RoomSchedule(() -> screeningRepository.findIntervalsByRoom(room)));
+    }
+
+    private void persist(Object entity) {
+        // Movies and rooms have assigned ids, so save() would merge them with a select per row
+        entityManager.persist(entity);
+        if (++unflushed == FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+}
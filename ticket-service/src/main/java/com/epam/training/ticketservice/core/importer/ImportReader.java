@@ -0,0 +1,15 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.Result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+public interface ImportReader extends Closeable {
+    // Empty once the input is exhausted, a malformed row is an Err and does not stop the import
+    Optional<Result<ImportRow>> next() throws IOException;
+
+    // The line (CSV) or array element (JSON) of the row returned last, counted from 1
+    long row();
+}
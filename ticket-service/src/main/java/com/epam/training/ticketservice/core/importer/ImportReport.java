@@ -0,0 +1,10 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.Failure;
+
+import java.util.List;
+
+public record ImportReport(int movies, int rooms, int screenings, List<RowError> errors) {
+    public record RowError(long row, Failure failure) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.time.DateTimes;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public sealed interface ImportRow {
+    record MovieRow(String title, String genre, int runtimeInMinutes) implements ImportRow {
+    }
+
+    record RoomRow(String name, int rows, int cols) implements ImportRow {
+    }
+
+    record ScreeningRow(String movieTitle, String roomName, LocalDateTime date) implements ImportRow {
+    }
+
+    static Result<ImportRow> movie(String title, String genre, String runtimeInMinutes) {
+        return required("title", title).flatMap(t ->
+                required("genre", genre).flatMap(g ->
+                        positive("runtime", runtimeInMinutes).map(r -> new MovieRow(t, g, r))
+                )
+        );
+    }
+
+    static Result<ImportRow> room(String name, String rows, String cols) {
+        return required("name", name).flatMap(n ->
+                positive("rows", rows).flatMap(r ->
+                        positive("cols", cols).map(c -> new RoomRow(n, r, c))
+                )
+        );
+    }
+
+    static Result<ImportRow> screening(String movieTitle, String roomName, String date) {
+        return required("movie", movieTitle).flatMap(m ->
+                required("room", roomName).flatMap(r ->
+                        dateTime("date", date).map(d -> new ScreeningRow(m, r, d))
+                )
+        );
+    }
+
+    private static Result<String> required(String field, String value) {
+        if (value == null || value.isBlank()) {
+            return Result.err(ErrorCode.IMPORT_MISSING_FIELD.with(field));
+        }
+        return Result.ok(value);
+    }
+
+    private static Result<Integer> positive(String field, String value) {
+        return required(field, value).flatMap(v -> {
+            try {
+                int number = Integer.parseInt(v.trim());
+                return number > 0
+                        ? Result.ok(number)
+                        : Result.err(ErrorCode.IMPORT_NOT_POSITIVE.with(field, v));
+            } catch (NumberFormatException e) {
+                return Result.err(ErrorCode.IMPORT_INVALID_VALUE.with(field, v));
+            }
+        });
+    }
+
+    private static Result<LocalDateTime> dateTime(String field, String value) {
+        return required(field, value).flatMap(v -> {
+            try {
+                return Result.ok(DateTimes.parse(v.trim()));
+            } catch (DateTimeParseException e) {
+                return Result.err(ErrorCode.IMPORT_INVALID_VALUE.with(field, v));
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.Result;
+
+import java.nio.file.Path;
+
+public interface ImportService {
+    Result<ImportReport> importFile(Path file);
+}
@@ -0,0 +1,99 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
+import com.epam.training.ticketservice.core.screening.ScreeningConflictDetector;
+import com.epam.training.ticketservice.core.screening.ScreeningKeyIndex;
+import com.epam.training.ticketservice.core.screening.ScreeningWrites;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.user.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportServiceImpl implements ImportService {
+    private final UserService userService;
+    private final MovieRepository movieRepository;
+    private final RoomRepository roomRepository;
+    private final ScreeningRepository screeningRepository;
+    private final ScreeningConflictDetector screeningConflictDetector;
+    private final ScreeningKeyIndex screeningKeyIndex;
+    private final ScreeningWrites screeningWrites;
+    private final CatalogueVersion catalogueVersion;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public Result<ImportReport> importFile(Path file) {
+        return userService.ensurePrivileged().flatMap(u -> screeningWrites.exclusive(() -> importAll(file)));
+    }
+
+    private Result<ImportReport> importAll(Path file) {
+        var batch = new ImportBatch(movieRepository, roomRepository, screeningRepository, entityManager);
+        try (var reader = openReader(file)) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                readAll(reader, batch);
+                batch.flush();
+            });
+        } catch (NoSuchFileException e) {
+            return Result.err(ErrorCode.IMPORT_FILE_NOT_FOUND.with(file));
+        } catch (IOException | UncheckedIOException e) {
+            return Result.err(ErrorCode.IMPORT_READ_FAILED.with(file, String.valueOf(e.getMessage())));
+        } catch (DataAccessException | PersistenceException e) {
+            // Rows are written every ImportBatch.FLUSH_INTERVAL rows and at the end, the failing one is among the last
+            log.warn("Could not save the import of {} at row {}", file, batch.getLastRow(), e);
+            return Result.err(ErrorCode.IMPORT_WRITE_FAILED.with(file, batch.getLastRow()));
+        }
+
+        // Only committed screenings may become visible to the conflict detector and the key index
+        batch.getScreenings().forEach(screeningConflictDetector::add);
+        batch.getScreenings().forEach(screeningKeyIndex::add);
+        var report = batch.report();
+        if (report.movies() + report.rooms() + report.screenings() > 0) {
+            catalogueVersion.bump();
+        }
+        return Result.ok(report);
+    }
+
+    private static ImportReader openReader(Path file) throws IOException {
+        var name = file.getFileName().toString().toLowerCase();
+        var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        if (name.endsWith(".json")) {
+            try {
+                return new JsonImportReader(reader);
+            } catch (IOException e) {
+                reader.close();
+                throw e;
+            }
+        }
+        return new CsvImportReader(reader);
+    }
+
+    private static void readAll(ImportReader reader, ImportBatch batch) {
+        try {
+            for (var row = reader.next(); row.isPresent(); row = reader.next()) {
+                batch.add(reader.row(), row.get());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
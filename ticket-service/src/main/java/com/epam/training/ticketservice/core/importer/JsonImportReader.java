@@ -0,0 +1,76 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Streams a top-level array of objects such as {"type": "movie", "title": ..., "genre": ..., "runtimeInMinutes": ...}
+public class JsonImportReader implements ImportReader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private long row;
+
+    public JsonImportReader(Reader reader) throws IOException {
+        this.parser = JSON_FACTORY.createParser(reader);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of rows");
+        }
+    }
+
+    @Override
+    public Optional<Result<ImportRow>> next() throws IOException {
+        var token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return Optional.empty();
+        }
+        row++;
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Optional.of(Result.err(ErrorCode.IMPORT_EXPECTED_OBJECT));
+        }
+
+        var fields = new HashMap<String, String>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.getCurrentName();
+            if (parser.nextToken().isScalarValue()) {
+                fields.put(name, parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return Optional.of(toRow(fields));
+    }
+
+    @Override
+    public long row() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static Result<ImportRow> toRow(Map<String, String> fields) {
+        var type = fields.get("type");
+        if (type == null) {
+            return Result.err(ErrorCode.IMPORT_MISSING_TYPE);
+        }
+        return switch (type) {
+            case "movie" -> ImportRow.movie(fields.get("title"), fields.get("genre"), fields.get("runtimeInMinutes"));
+            case "room" -> ImportRow.room(fields.get("name"), fields.get("rows"), fields.get("cols"));
+            case "screening" -> ImportRow.screening(fields.get("movie"), fields.get("room"), fields.get("date"));
+            default -> Result.err(ErrorCode.IMPORT_UNKNOWN_ROW_TYPE.with(type));
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.epam.training.ticketservice.core.metrics;
+
+import com.epam.training.ticketservice.core.result.Result;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+    public static final String SERVICE_TIMER = "ticket-service.service";
+    public static final String COMMAND_TIMER = "ticket-service.command";
+    public static final String COMMAND_REPOSITORY_CALLS = "ticket-service.command.repository.calls";
+    public static final String ERROR_COUNTER = "ticket-service.errors";
+    public static final String OPERATION_TAG = "operation";
+    public static final String CODE_TAG = "code";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> repositoryCallSummaries = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> repositoryCalls = new ThreadLocal<>();
+
+    @Around("execution(public * com.epam.training.ticketservice.core..*ServiceImpl.*(..))")
+    public Object measureService(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = methodOf(joinPoint);
+        var operation = method.getDeclaringClass().getSimpleName().replaceFirst("Impl$", "") + "." + method.getName();
+        var timer = timers.computeIfAbsent(method, m -> timer(SERVICE_TIMER, operation));
+
+        var result = time(timer, joinPoint);
+        if (result instanceof Result<?> r && !r.isOk()) {
+            meterRegistry.counter(ERROR_COUNTER, OPERATION_TAG, operation, CODE_TAG, r.unwrapErr().code().name())
+                    .increment();
+        }
+        return result;
+    }
+
+    @Around("@annotation(shellMethod)")
+    public Object measureCommand(ProceedingJoinPoint joinPoint, ShellMethod shellMethod) throws Throwable {
+        var method = methodOf(joinPoint);
+        var command = shellMethod.key().length > 0 ? shellMethod.key()[0] : method.getName();
+        var timer = timers.computeIfAbsent(method, m -> timer(COMMAND_TIMER, command));
+        var summary = repositoryCallSummaries.computeIfAbsent(method, m -> DistributionSummary
+                .builder(COMMAND_REPOSITORY_CALLS)
+                .tag(OPERATION_TAG, command)
+                .register(meterRegistry));
+
+        var calls = new int[1];
+        repositoryCalls.set(calls);
+        try {
+            return time(timer, joinPoint);
+        } finally {
+            repositoryCalls.remove();
+            summary.record(calls[0]);
+        }
+    }
+
+    @Before("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public void countRepositoryCall() {
+        // Only calls made on a command's own thread are attributed to it, write-behind flushes are not
+        var calls = repositoryCalls.get();
+        if (calls != null) {
+            calls[0]++;
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag(OPERATION_TAG, operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Object time(Timer timer, ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private static Method methodOf(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+}
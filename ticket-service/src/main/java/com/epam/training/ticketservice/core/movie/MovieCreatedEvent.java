@@ -0,0 +1,6 @@
+package com.epam.training.ticketservice.core.movie;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+
+public record MovieCreatedEvent(Movie movie) {
+}
@@ -1,8 +1,12 @@
 package com.epam.training.ticketservice.core.movie;
 
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieListing;
 import com.epam.training.ticketservice.core.result.Result;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 
 public interface MovieService {
@@ -15,4 +19,6 @@ public interface MovieService {
     Result<Movie> deleteMovie(String title);
 
     List<Movie> getAllMovies();
+
+    Slice<MovieListing> getMovies(String titleFilter, Pageable pageable);
 }
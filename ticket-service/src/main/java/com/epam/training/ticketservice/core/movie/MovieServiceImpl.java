@@ -1,11 +1,21 @@
 package com.epam.training.ticketservice.core.movie;
 
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieListing;
 import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,10 +24,13 @@ import java.util.List;
 public class MovieServiceImpl implements MovieService {
     private final UserService userService;
     private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExpiringCache<String, Movie> movieCache;
+    private final CatalogueVersion catalogueVersion;
 
     @Override
     public Result<Movie> ensureMovieExists(String title) {
-        return Result.fromOptional(movieRepository.findById(title), new Error("Movie not found"));
+        return Result.fromOptional(movieCache.get(title, movieRepository::findById), ErrorCode.MOVIE_NOT_FOUND);
     }
 
     @Override
@@ -25,31 +38,50 @@ public class MovieServiceImpl implements MovieService {
         return userService.ensurePrivileged().flatMap(u -> {
             var movieMaybe = movieRepository.findById(title);
             if (movieMaybe.isPresent()) {
-                return Result.err(new Error("Movie already exists"));
+                return Result.err(ErrorCode.MOVIE_EXISTS);
             }
 
             var movie = movieRepository.save(new Movie(title, genre, runtimeInMinutes));
             return Result.ok(movie);
-        });
+        }).use(m -> eventPublisher.publishEvent(new MovieCreatedEvent(m)))
+                .use(m -> catalogueVersion.bump());
     }
 
     @Override
     public Result<Movie> updateMovie(String title, String genre, int runtimeInMinutes) {
-        return userService.ensurePrivileged().flatMap(u -> ensureMovieExists(title).map(m -> {
-            m.setGenre(genre);
-            m.setRuntimeInMinutes(runtimeInMinutes);
-            return movieRepository.save(m);
-        }));
+        // Updates a freshly loaded entity, the cached instance is shared with concurrent readers
+        return userService.ensurePrivileged().flatMap(u ->
+                Result.fromOptional(movieRepository.findById(title), ErrorCode.MOVIE_NOT_FOUND).map(m -> {
+                    m.setGenre(genre);
+                    m.setRuntimeInMinutes(runtimeInMinutes);
+                    return movieRepository.save(m);
+                }).use(m -> movieCache.invalidate(title))
+                        .use(m -> eventPublisher.publishEvent(new MovieUpdatedEvent(m)))
+                        .use(m -> catalogueVersion.bump()));
     }
 
     @Override
     public Result<Movie> deleteMovie(String title) {
         return userService.ensurePrivileged()
-                .flatMap(u -> ensureMovieExists(title).use(movieRepository::delete));
+                .flatMap(u -> ensureMovieExists(title)
+                        .use(movieRepository::delete)
+                        .use(m -> movieCache.invalidate(title))
+                        .use(m -> catalogueVersion.bump()));
     }
 
     @Override
     public List<Movie> getAllMovies() {
         return movieRepository.findAll();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MovieListing> getMovies(String titleFilter, Pageable pageable) {
+        return movieRepository.findListingsByTitleContainingIgnoreCase(titleFilter == null ? "" : titleFilter,
+                sortedBy(pageable, "title"));
+    }
+
+    private static Pageable sortedBy(Pageable pageable, String property) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSortOr(Sort.by(property)));
+    }
 }
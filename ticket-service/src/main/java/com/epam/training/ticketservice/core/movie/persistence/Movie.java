@@ -26,6 +26,6 @@ public class Movie {
 
     @Override
     public String toString() {
-        return String.format("%s (%s, %s minutes)", title, genre, runtimeInMinutes);
+        return new MovieListing(title, genre, runtimeInMinutes).toString();
     }
 }
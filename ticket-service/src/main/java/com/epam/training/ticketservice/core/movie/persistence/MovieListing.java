@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.movie.persistence;
+
+// A row of "list movies", selected straight into the record so listing never creates managed entities
+public record MovieListing(String title, String genre, int runtimeInMinutes) {
+    @Override
+    public String toString() {
+        return String.format("%s (%s, %s minutes)", title, genre, runtimeInMinutes);
+    }
+}
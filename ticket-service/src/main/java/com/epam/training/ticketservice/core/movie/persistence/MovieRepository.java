@@ -1,6 +1,22 @@
 package com.epam.training.ticketservice.core.movie.persistence;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface MovieRepository extends JpaRepository<Movie, String> {
+    @Query("select coalesce(max(m.runtimeInMinutes), 0) from Movie m")
+    int findLongestRuntimeInMinutes();
+
+    Slice<MovieListing> findListingsByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Movie> streamAllByOrderByTitle();
 }
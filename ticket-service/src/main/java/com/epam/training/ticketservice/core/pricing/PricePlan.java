@@ -0,0 +1,17 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record PricePlan(int basePrice, Map<String, Integer> components, int pricePerSeat) {
+    public static PricePlan of(int basePrice, Map<String, Integer> components) {
+        var sorted = Collections.unmodifiableMap(new TreeMap<>(components));
+        int componentTotal = sorted.values().stream().mapToInt(Integer::intValue).sum();
+        return new PricePlan(basePrice, sorted, basePrice + componentTotal);
+    }
+
+    public int priceFor(int seats) {
+        return pricePerSeat * seats;
+    }
+}
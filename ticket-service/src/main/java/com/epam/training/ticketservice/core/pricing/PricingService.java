@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponent;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PricingService {
+    Result<Integer> updateBasePrice(int amount);
+
+    Result<PriceComponent> createPriceComponent(String name, int amount);
+
+    Result<PriceComponent> attachToMovie(String componentName, String movieTitle);
+
+    Result<PriceComponent> attachToRoom(String componentName, String roomName);
+
+    Result<PriceComponent> attachToScreening(String componentName, String movieTitle, String roomName,
+                                             LocalDateTime date);
+
+    PricePlan getPricePlan(Screening screening);
+
+    Result<Integer> calculatePrice(String movieTitle, String roomName, LocalDateTime date, List<Seat> seats);
+}
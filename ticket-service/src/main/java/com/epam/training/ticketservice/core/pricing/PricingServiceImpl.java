@@ -0,0 +1,135 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePrice;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePriceRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponent;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class PricingServiceImpl implements PricingService {
+    private final UserService userService;
+    private final MovieService movieService;
+    private final RoomService roomService;
+    private final ScreeningService screeningService;
+    private final BasePriceRepository basePriceRepository;
+    private final PriceComponentRepository priceComponentRepository;
+    private final PriceAttachmentRepository priceAttachmentRepository;
+
+    private final Map<Integer, PricePlan> plansByScreening = new ConcurrentHashMap<>();
+    // Guards storing and loading the base price, so a lazy load can not overwrite a newer update with what it read
+    private final Object basePriceLock = new Object();
+    private volatile Integer basePrice;
+
+    @Override
+    public Result<Integer> updateBasePrice(int amount) {
+        return userService.ensurePrivileged().map(u -> {
+            synchronized (basePriceLock) {
+                basePriceRepository.save(new BasePrice(amount));
+                basePrice = amount;
+            }
+            plansByScreening.clear();
+            return amount;
+        });
+    }
+
+    @Override
+    public Result<PriceComponent> createPriceComponent(String name, int amount) {
+        return userService.ensurePrivileged().flatMap(u -> {
+            if (priceComponentRepository.existsById(name)) {
+                return Result.err(ErrorCode.PRICE_COMPONENT_EXISTS);
+            }
+            return Result.ok(priceComponentRepository.save(new PriceComponent(name, amount)));
+        });
+    }
+
+    @Override
+    public Result<PriceComponent> attachToMovie(String componentName, String movieTitle) {
+        return userService.ensurePrivileged().flatMap(u ->
+                movieService.ensureMovieExists(movieTitle).flatMap(movie ->
+                        attach(componentName, PriceAttachment.Target.MOVIE, movie.getTitle())));
+    }
+
+    @Override
+    public Result<PriceComponent> attachToRoom(String componentName, String roomName) {
+        return userService.ensurePrivileged().flatMap(u ->
+                roomService.ensureRoomExists(roomName).flatMap(room ->
+                        attach(componentName, PriceAttachment.Target.ROOM, room.getName())));
+    }
+
+    @Override
+    public Result<PriceComponent> attachToScreening(String componentName, String movieTitle, String roomName,
+                                                    LocalDateTime date) {
+        return userService.ensurePrivileged().flatMap(u ->
+                screeningService.ensureScreeningExists(movieTitle, roomName, date).flatMap(screening ->
+                        attach(componentName, PriceAttachment.Target.SCREENING,
+                                Integer.toString(screening.getId()))));
+    }
+
+    private Result<PriceComponent> attach(String componentName, PriceAttachment.Target target, String targetKey) {
+        return Result.fromOptional(priceComponentRepository.findById(componentName),
+                ErrorCode.PRICE_COMPONENT_NOT_FOUND).flatMap(component -> {
+                    if (priceAttachmentRepository.existsByComponentAndTargetAndTargetKey(
+                            component, target, targetKey)) {
+                        return Result.err(ErrorCode.PRICE_COMPONENT_ALREADY_ATTACHED);
+                    }
+                    priceAttachmentRepository.save(new PriceAttachment(component, target, targetKey));
+                    // A movie or room attachment can change the plan of any number of screenings
+                    plansByScreening.clear();
+                    return Result.ok(component);
+                });
+    }
+
+    @Override
+    public PricePlan getPricePlan(Screening screening) {
+        return plansByScreening.computeIfAbsent(screening.getId(), id -> compile(screening));
+    }
+
+    private PricePlan compile(Screening screening) {
+        var components = new HashMap<String, Integer>();
+        priceAttachmentRepository.findApplicable(screening.getMovie().getTitle(), screening.getRoom().getName(),
+                        screening.getId())
+                .forEach(a -> components.put(a.getComponent().getName(), a.getComponent().getAmount()));
+        return PricePlan.of(getBasePrice(), components);
+    }
+
+    private int getBasePrice() {
+        var price = basePrice;
+        if (price == null) {
+            synchronized (basePriceLock) {
+                price = basePrice;
+                if (price == null) {
+                    price = basePriceRepository.findById(BasePrice.ID)
+                            .map(BasePrice::getAmount)
+                            .orElse(BasePrice.DEFAULT_AMOUNT);
+                    basePrice = price;
+                }
+            }
+        }
+        return price;
+    }
+
+    @Override
+    public Result<Integer> calculatePrice(String movieTitle, String roomName, LocalDateTime date, List<Seat> seats) {
+        return screeningService.ensureScreeningExists(movieTitle, roomName, date)
+                .map(screening -> getPricePlan(screening).priceFor(seats.size()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.epam.training.ticketservice.core.pricing.persistence;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "BasePrice")
+@Data
+@NoArgsConstructor
+public class BasePrice {
+    public static final int ID = 1;
+    public static final int DEFAULT_AMOUNT = 1500;
+
+    @Id
+    private int id = ID;
+    private int amount;
+
+    public BasePrice(int amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.training.ticketservice.core.pricing.persistence;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+@Entity
+@Table(name = "PriceAttachments",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"component_name", "target", "targetKey"}),
+        indexes = @Index(name = "idx_price_attachment_target", columnList = "target, targetKey"))
+@Data
+@NoArgsConstructor
+public class PriceAttachment {
+    @Id
+    @SequenceGenerator(name = "price_attachment_id", sequenceName = "hibernate_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_attachment_id")
+    private int id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "component_name", nullable = false)
+    private PriceComponent component;
+
+    @Enumerated(EnumType.STRING)
+    private Target target;
+
+    // Movie title, room name or screening id, depending on the target
+    private String targetKey;
+
+    public PriceAttachment(PriceComponent component, Target target, String targetKey) {
+        this.component = component;
+        this.target = target;
+        this.targetKey = targetKey;
+    }
+
+    public enum Target {
+        MOVIE,
+        ROOM,
+        SCREENING
+    }
+}
@@ -0,0 +1,29 @@
+package com.epam.training.ticketservice.core.pricing.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PriceAttachmentRepository extends JpaRepository<PriceAttachment, Integer> {
+    boolean existsByComponentAndTargetAndTargetKey(PriceComponent component, PriceAttachment.Target target,
+                                                   String targetKey);
+
+    @Query("select a from PriceAttachment a join fetch a.component where "
+            + "(a.target = ?1 and a.targetKey = ?2) or (a.target = ?3 and a.targetKey = ?4) "
+            + "or (a.target = ?5 and a.targetKey = ?6)")
+    List<PriceAttachment> findByTargets(PriceAttachment.Target firstTarget, String firstKey,
+                                        PriceAttachment.Target secondTarget, String secondKey,
+                                        PriceAttachment.Target thirdTarget, String thirdKey);
+
+    @Transactional
+    void deleteByTargetAndTargetKey(PriceAttachment.Target target, String targetKey);
+
+    default List<PriceAttachment> findApplicable(String movieTitle, String roomName, int screeningId) {
+        return findByTargets(PriceAttachment.Target.MOVIE, movieTitle, PriceAttachment.Target.ROOM, roomName,
+                PriceAttachment.Target.SCREENING, Integer.toString(screeningId));
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.training.ticketservice.core.pricing.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "PriceComponents")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceComponent {
+    @Id
+    private String name;
+    private int amount;
+}
@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.pricing.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PriceComponentRepository extends JpaRepository<PriceComponent, String> {
+}
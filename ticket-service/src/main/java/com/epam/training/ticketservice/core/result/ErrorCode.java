@@ -0,0 +1,73 @@
+package com.epam.training.ticketservice.core.result;
+
+import java.util.List;
+
+// The names are stable identifiers, metrics and scripts may rely on them. Add new codes, do not rename old ones.
+public enum ErrorCode {
+    USER_EXISTS,
+    INCORRECT_CREDENTIALS,
+    ALREADY_SIGNED_IN,
+    NOT_SIGNED_IN,
+    NO_USER_TO_SIGN_OUT,
+    INSUFFICIENT_PRIVILEGE,
+    PRIVILEGED_CAN_NOT_BOOK,
+
+    MOVIE_NOT_FOUND,
+    MOVIE_EXISTS,
+    ROOM_NOT_FOUND,
+    ROOM_EXISTS,
+    SCREENING_NOT_FOUND,
+    SCREENING_OVERLAPS,
+    SCREENING_IN_BREAK,
+    SCREENING_HAS_BOOKINGS,
+
+    // details: seat as typed
+    INVALID_SEAT,
+    // details: seat
+    SEAT_DOES_NOT_EXIST,
+    // details: seat
+    SEAT_TAKEN,
+    // details: the most seats one booking can have
+    TOO_MANY_SEATS,
+    BOOKING_NOT_SAVED,
+    BOOKING_NOT_CONFIRMED,
+
+    PRICE_COMPONENT_NOT_FOUND,
+    PRICE_COMPONENT_EXISTS,
+    PRICE_COMPONENT_ALREADY_ATTACHED,
+
+    // details: file
+    IMPORT_FILE_NOT_FOUND,
+    // details: file, reason
+    IMPORT_READ_FAILED,
+    // details: file, last row read
+    IMPORT_WRITE_FAILED,
+    // details: found field count
+    IMPORT_FIELD_COUNT,
+    // details: row type
+    IMPORT_UNKNOWN_ROW_TYPE,
+    IMPORT_UNTERMINATED_QUOTE,
+    IMPORT_EXPECTED_OBJECT,
+    IMPORT_MISSING_TYPE,
+    // details: field
+    IMPORT_MISSING_FIELD,
+    // details: field, value
+    IMPORT_NOT_POSITIVE,
+    // details: field, value
+    IMPORT_INVALID_VALUE,
+
+    // details: directory
+    EXPORT_DIRECTORY_NOT_FOUND,
+    // details: file, reason
+    EXPORT_WRITE_FAILED;
+
+    private final Failure failure = new Failure(this, List.of());
+
+    public Failure failure() {
+        return failure;
+    }
+
+    public Failure with(Object... details) {
+        return new Failure(this, List.of(details));
+    }
+}
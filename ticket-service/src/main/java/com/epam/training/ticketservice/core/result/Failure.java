@@ -0,0 +1,12 @@
+package com.epam.training.ticketservice.core.result;
+
+import java.util.List;
+
+// Not a Throwable, so failing is as cheap as succeeding: no stack trace is captured, and failures without
+// details are shared instances, see ErrorCode.failure(). The shell turns the code and details into text.
+public record Failure(ErrorCode code, List<Object> details) {
+    @Override
+    public String toString() {
+        return details.isEmpty() ? code.name() : code.name() + details;
+    }
+}
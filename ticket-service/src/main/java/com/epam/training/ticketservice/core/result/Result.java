@@ -7,7 +7,7 @@ import java.util.function.Function;
 public interface Result<OkT> {
     record Ok<OkT>(OkT value) implements Result<OkT> {
         @Override
-        public <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Error, Error> fnErr) {
+        public <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Failure, Failure> fnErr) {
             return ok(fn.apply(value));
         }
 
@@ -17,7 +17,7 @@ public interface Result<OkT> {
         }
 
         @Override
-        public Optional<Error> toOptional() {
+        public Optional<Failure> toOptional() {
             return Optional.empty();
         }
 
@@ -32,16 +32,16 @@ public interface Result<OkT> {
         }
 
         @Override
-        public Error unwrapErr() {
+        public Failure unwrapErr() {
             throw new RuntimeException("UnwrapErr on an ok value: " + value);
         }
     }
 
-    record Err<OkT>(Error error) implements Result<OkT> {
+    record Err<OkT>(Failure failure) implements Result<OkT> {
 
         @Override
-        public <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Error, Error> fnErr) {
-            return err(fnErr.apply(error));
+        public <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Failure, Failure> fnErr) {
+            return err(fnErr.apply(failure));
         }
 
         @Override
@@ -51,8 +51,8 @@ public interface Result<OkT> {
         }
 
         @Override
-        public Optional<Error> toOptional() {
-            return Optional.of(error);
+        public Optional<Failure> toOptional() {
+            return Optional.of(failure);
         }
 
         @Override
@@ -62,12 +62,12 @@ public interface Result<OkT> {
 
         @Override
         public OkT unwrap() {
-            throw new RuntimeException("Unwrap on an error: " + error.getMessage());
+            throw new RuntimeException("Unwrap on an error: " + failure);
         }
 
         @Override
-        public Error unwrapErr() {
-            return error;
+        public Failure unwrapErr() {
+            return failure;
         }
     }
 
@@ -75,30 +75,34 @@ public interface Result<OkT> {
         return new Ok<>(value);
     }
 
-    static <OkT> Err<OkT> err(Error error) {
-        return new Err<>(error);
+    static <OkT> Err<OkT> err(Failure failure) {
+        return new Err<>(failure);
+    }
+
+    static <OkT> Err<OkT> err(ErrorCode code) {
+        return new Err<>(code.failure());
     }
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    static <OkT> Result<OkT> fromOptional(Optional<OkT> optional, Error orError) {
-        return optional.<Result<OkT>>map(Result::ok).orElse(err(orError));
+    static <OkT> Result<OkT> fromOptional(Optional<OkT> optional, ErrorCode orError) {
+        return optional.isPresent() ? ok(optional.get()) : err(orError);
     }
 
-    <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Error, Error> fnErr);
+    <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn, Function<Failure, Failure> fnErr);
 
     default <OtherOkT> Result<OtherOkT> map(Function<OkT, OtherOkT> fn) {
-        return map(fn, error -> error);
+        return map(fn, failure -> failure);
     }
 
     <OtherOkT> Result<OtherOkT> flatMap(Function<OkT, Result<OtherOkT>> fn);
 
-    Optional<Error> toOptional();
+    Optional<Failure> toOptional();
 
     boolean isOk();
 
     OkT unwrap();
 
-    Error unwrapErr();
+    Failure unwrapErr();
 
     default Result<OkT> use(Consumer<OkT> fn) {
         return map(t -> {
@@ -2,12 +2,18 @@ package com.epam.training.ticketservice.core.room;
 
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomListing;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface RoomService {
     List<Room> getAllRooms();
 
+    Slice<RoomListing> getRooms(String nameFilter, Pageable pageable);
+
     Result<Room> ensureRoomExists(String name);
 
     Result<Room> createRoom(String name, int rows, int cols);
@@ -1,11 +1,20 @@
 package com.epam.training.ticketservice.core.room;
 
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomListing;
 import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
 import com.epam.training.ticketservice.core.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,15 +23,28 @@ import java.util.List;
 public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
     private final UserService userService;
+    private final ExpiringCache<String, Room> roomCache;
+    private final CatalogueVersion catalogueVersion;
 
     @Override
     public List<Room> getAllRooms() {
         return roomRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<RoomListing> getRooms(String nameFilter, Pageable pageable) {
+        return roomRepository.findListingsByNameContainingIgnoreCase(nameFilter == null ? "" : nameFilter,
+                sortedBy(pageable, "name"));
+    }
+
+    private static Pageable sortedBy(Pageable pageable, String property) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSortOr(Sort.by(property)));
+    }
+
     @Override
     public Result<Room> ensureRoomExists(String name) {
-        return Result.fromOptional(roomRepository.findById(name), new Error("Room not found"));
+        return Result.fromOptional(roomCache.get(name, roomRepository::findById), ErrorCode.ROOM_NOT_FOUND);
     }
 
     @Override
@@ -30,26 +52,31 @@ public class RoomServiceImpl implements RoomService {
         return userService.ensurePrivileged().flatMap(u -> {
             var maybeRoom = roomRepository.findById(name);
             if (maybeRoom.isPresent()) {
-                return Result.err(new Error("Room already exists"));
+                return Result.err(ErrorCode.ROOM_EXISTS);
             }
             return Result.ok(roomRepository.save(new Room(name, rows, cols)));
-        });
+        }).use(r -> catalogueVersion.bump());
     }
 
     @Override
     public Result<Room> updateRoom(String name, int rows, int cols) {
+        // Updates a freshly loaded entity, the cached instance is shared with concurrent readers
         return userService.ensurePrivileged().flatMap(u ->
-                ensureRoomExists(name).map(r -> {
+                Result.fromOptional(roomRepository.findById(name), ErrorCode.ROOM_NOT_FOUND).map(r -> {
                     r.setRows(rows);
                     r.setCols(cols);
                     return roomRepository.save(r);
-                })
+                }).use(r -> roomCache.invalidate(name))
+                        .use(r -> catalogueVersion.bump())
         );
     }
 
     @Override
     public Result<Room> deleteRoom(String name) {
         return userService.ensurePrivileged()
-                .flatMap(u -> ensureRoomExists(name).use(roomRepository::delete));
+                .flatMap(u -> ensureRoomExists(name)
+                        .use(roomRepository::delete)
+                        .use(r -> roomCache.invalidate(name))
+                        .use(r -> catalogueVersion.bump()));
     }
 }
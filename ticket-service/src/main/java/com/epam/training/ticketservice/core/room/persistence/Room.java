@@ -25,6 +25,6 @@ public class Room {
 
     @Override
     public String toString() {
-        return String.format("Room %s with %s seats, %s rows and %s columns", name, getSeats(), rows, cols);
+        return new RoomListing(name, rows, cols).toString();
     }
 }
@@ -0,0 +1,13 @@
+package com.epam.training.ticketservice.core.room.persistence;
+
+// A row of "list rooms", selected straight into the record so listing never creates managed entities
+public record RoomListing(String name, int rows, int cols) {
+    public int seats() {
+        return rows * cols;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Room %s with %s seats, %s rows and %s columns", name, seats(), rows, cols);
+    }
+}
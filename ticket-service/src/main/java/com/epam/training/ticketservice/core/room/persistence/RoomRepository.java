@@ -1,6 +1,18 @@
 package com.epam.training.ticketservice.core.room.persistence;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface RoomRepository extends JpaRepository<Room, String> {
+    Slice<RoomListing> findListingsByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Room> streamAllByOrderByName();
 }
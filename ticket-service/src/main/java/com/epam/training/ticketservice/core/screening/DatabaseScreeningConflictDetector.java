@@ -0,0 +1,114 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieCreatedEvent;
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "ticket-service.screening.conflict-detection", havingValue = "database")
+@RequiredArgsConstructor
+public class DatabaseScreeningConflictDetector implements ScreeningConflictDetector {
+    private static final int NOT_LOADED = -1;
+
+    private final ScreeningRepository screeningRepository;
+    private final MovieRepository movieRepository;
+    // An upper bound of the runtimes of screened movies, it only ever grows. A shortened movie leaves it too large,
+    // which widens the candidate window but never misses a screening.
+    private volatile int longestRuntimeInMinutes = NOT_LOADED;
+    private final Map<String, Object> locksByRoom = new ConcurrentHashMap<>();
+
+    @Override
+    public Conflict findConflict(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes) {
+        long start = DateTimes.toEpochMinute(date);
+        long end = start + runtimeInMinutes;
+        long earliestEnd = start - breakLengthInMinutes;
+        long latestStart = end + breakLengthInMinutes;
+        long earliestStart = earliestEnd - longestRuntimeInMinutes();
+
+        var candidates = screeningRepository.findInRoomIntersecting(room, DateTimes.fromEpochMinute(earliestStart),
+                DateTimes.fromEpochMinute(latestStart), DateTimes.fromEpochMinute(earliestEnd));
+
+        var conflict = Conflict.NONE;
+        for (var other : candidates) {
+            var found = ScreeningConflictDetector.conflictBetween(DateTimes.toEpochMinute(other.date()),
+                    DateTimes.toEpochMinute(other.endDate()), start, end, breakLengthInMinutes);
+            if (found == Conflict.OVERLAP) {
+                return found;
+            }
+            if (found == Conflict.BREAK) {
+                conflict = found;
+            }
+        }
+        return conflict;
+    }
+
+    // Serialises the reservations of a room within this instance, the check reads what the previous insert committed
+    @Override
+    public Result<Screening> reserve(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes,
+                                     Supplier<Screening> insert) {
+        synchronized (locksByRoom.computeIfAbsent(room.getName(), name -> new Object())) {
+            var conflict = findConflict(room, date, runtimeInMinutes, breakLengthInMinutes);
+            if (conflict != Conflict.NONE) {
+                return Result.err(conflict.getErrorCode());
+            }
+            var screening = insert.get();
+            add(screening);
+            return Result.ok(screening);
+        }
+    }
+
+    // Imported movies publish no event, their screenings raise the bound as they are added
+    @Override
+    public void add(Screening screening) {
+        raiseLongestRuntime(screening.getMovie().getRuntimeInMinutes());
+    }
+
+    @Override
+    public void remove(Screening screening) {
+    }
+
+    @EventListener
+    public void onMovieCreated(MovieCreatedEvent event) {
+        raiseLongestRuntime(event.movie().getRuntimeInMinutes());
+    }
+
+    @EventListener
+    @Order(ScreeningEndDateUpdater.CACHE_ORDER)
+    public void onMovieUpdated(MovieUpdatedEvent event) {
+        raiseLongestRuntime(event.movie().getRuntimeInMinutes());
+    }
+
+    private int longestRuntimeInMinutes() {
+        int longest = longestRuntimeInMinutes;
+        return longest != NOT_LOADED ? longest : loadLongestRuntime();
+    }
+
+    private synchronized int loadLongestRuntime() {
+        if (longestRuntimeInMinutes == NOT_LOADED) {
+            longestRuntimeInMinutes = movieRepository.findLongestRuntimeInMinutes();
+        }
+        return longestRuntimeInMinutes;
+    }
+
+    // Waits for a load in progress, which may have read the runtimes before this change was committed
+    private synchronized void raiseLongestRuntime(int runtimeInMinutes) {
+        if (longestRuntimeInMinutes != NOT_LOADED) {
+            longestRuntimeInMinutes = Math.max(longestRuntimeInMinutes, runtimeInMinutes);
+        }
+    }
+}
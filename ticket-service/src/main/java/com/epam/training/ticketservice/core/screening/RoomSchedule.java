@@ -0,0 +1,103 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.time.DateTimes;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+// The intervals are loaded on first use and again after invalidate, always under the schedule's own lock, so a
+// reload can not interleave with a reservation in progress
+public class RoomSchedule {
+    private final Supplier<List<ScreeningInterval>> loader;
+    private final NavigableSet<Interval> intervals = new TreeSet<>(Interval.BY_START);
+    private long longestInterval;
+    private boolean loaded;
+
+    public RoomSchedule(Supplier<List<ScreeningInterval>> loader) {
+        this.loader = loader;
+    }
+
+    public synchronized void add(ScreeningInterval screening) {
+        ensureLoaded();
+        addInterval(Interval.of(screening));
+    }
+
+    public synchronized void remove(ScreeningInterval screening) {
+        ensureLoaded();
+        intervals.remove(Interval.of(screening));
+    }
+
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    public synchronized ScreeningConflictDetector.Conflict findConflict(long start, int runtimeInMinutes,
+                                                                     int breakLengthInMinutes) {
+        ensureLoaded();
+        long end = start + runtimeInMinutes;
+        // Only screenings starting at most one (longest screening + break) before us can reach into our window
+        var candidates = intervals.subSet(
+                new Interval(Integer.MIN_VALUE, start - longestInterval - breakLengthInMinutes, 0), true,
+                new Interval(Integer.MAX_VALUE, end + breakLengthInMinutes, 0), true);
+
+        var conflict = ScreeningConflictDetector.Conflict.NONE;
+        for (var other : candidates) {
+            var found = ScreeningConflictDetector.conflictBetween(
+                    other.start(), other.end(), start, end, breakLengthInMinutes);
+            if (found == ScreeningConflictDetector.Conflict.OVERLAP) {
+                return found;
+            }
+            if (found == ScreeningConflictDetector.Conflict.BREAK) {
+                conflict = found;
+            }
+        }
+        return conflict;
+    }
+
+    // The check and the insert happen under one lock, so two creates for the same room can not both pass the check.
+    // The interval is added only once the insert returned, a failed insert leaves the schedule as it was.
+    public synchronized Result<Screening> tryReserve(long start, int runtimeInMinutes, int breakLengthInMinutes,
+                                                     Supplier<Screening> insert) {
+        var conflict = findConflict(start, runtimeInMinutes, breakLengthInMinutes);
+        if (conflict != ScreeningConflictDetector.Conflict.NONE) {
+            return Result.err(conflict.getErrorCode());
+        }
+        var screening = insert.get();
+        addInterval(Interval.of(ScreeningInterval.of(screening)));
+        return Result.ok(screening);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            intervals.clear();
+            longestInterval = 0;
+            loader.get().forEach(screening -> addInterval(Interval.of(screening)));
+            loaded = true;
+        }
+    }
+
+    private void addInterval(Interval interval) {
+        intervals.add(interval);
+        longestInterval = Math.max(longestInterval, interval.length());
+    }
+
+    private record Interval(int screeningId, long start, long end) {
+        private static final Comparator<Interval> BY_START = Comparator.comparingLong(Interval::start)
+                .thenComparingInt(Interval::screeningId);
+
+        static Interval of(ScreeningInterval screening) {
+            return new Interval(screening.id(), DateTimes.toEpochMinute(screening.date()),
+                    DateTimes.toEpochMinute(screening.endDate()));
+        }
+
+        long length() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+public interface ScreeningConflictDetector {
+    Conflict findConflict(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes);
+
+    // Runs the insert only when the screening fits, atomically with the check for concurrent reservations
+    Result<Screening> reserve(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes,
+                              Supplier<Screening> insert);
+
+    void add(Screening screening);
+
+    void remove(Screening screening);
+
+    static Conflict conflictBetween(long otherStart, long otherEnd, long start, long end, int breakLengthInMinutes) {
+        if (overlaps(otherStart, otherEnd, start, end)) {
+            return Conflict.OVERLAP;
+        }
+        if (overlaps(otherStart, otherEnd + breakLengthInMinutes, start, end + breakLengthInMinutes)) {
+            return Conflict.BREAK;
+        }
+        return Conflict.NONE;
+    }
+
+    private static boolean overlaps(long start1, long end1, long start2, long end2) {
+        return start1 <= end2 && end1 >= start2;
+    }
+
+    enum Conflict {
+        NONE(null),
+        OVERLAP(ErrorCode.SCREENING_OVERLAPS),
+        BREAK(ErrorCode.SCREENING_IN_BREAK);
+
+        private final ErrorCode errorCode;
+
+        Conflict(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+        }
+
+        public ErrorCode getErrorCode() {
+            return errorCode;
+        }
+    }
+}
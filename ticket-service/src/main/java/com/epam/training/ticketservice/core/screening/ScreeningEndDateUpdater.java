@@ -0,0 +1,29 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Stores the end dates a changed runtime implies. It runs before the listeners that drop cached intervals, so a
+// room reloaded right after they did reads the new end dates, never the old ones.
+@Component
+@RequiredArgsConstructor
+public class ScreeningEndDateUpdater {
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+    public static final int CACHE_ORDER = ORDER + 1;
+
+    private final ScreeningRepository screeningRepository;
+
+    @EventListener
+    @Order(ORDER)
+    public void onMovieUpdated(MovieUpdatedEvent event) {
+        var screenings = screeningRepository.findByMovie(event.movie());
+        screenings.forEach(Screening::refreshEndDate);
+        screeningRepository.saveAll(screenings);
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "ticket-service.screening.conflict-detection", havingValue = "memory",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+public class ScreeningIntervalIndex implements ScreeningConflictDetector {
+    private final ScreeningRepository screeningRepository;
+    private final Map<String, RoomSchedule> schedulesByRoom = new ConcurrentHashMap<>();
+
+    @Override
+    public Conflict findConflict(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes) {
+        return scheduleOf(room).findConflict(DateTimes.toEpochMinute(date), runtimeInMinutes, breakLengthInMinutes);
+    }
+
+    @Override
+    public Result<Screening> reserve(Room room, LocalDateTime date, int runtimeInMinutes, int breakLengthInMinutes,
+                                     Supplier<Screening> insert) {
+        return scheduleOf(room).tryReserve(DateTimes.toEpochMinute(date), runtimeInMinutes, breakLengthInMinutes,
+                insert);
+    }
+
+    @Override
+    public void add(Screening screening) {
+        scheduleOf(screening.getRoom()).add(ScreeningInterval.of(screening));
+    }
+
+    @Override
+    public void remove(Screening screening) {
+        var schedule = schedulesByRoom.get(screening.getRoom().getName());
+        if (schedule != null) {
+            schedule.remove(ScreeningInterval.of(screening));
+        }
+    }
+
+    @EventListener
+    @Order(ScreeningEndDateUpdater.CACHE_ORDER)
+    public void onMovieUpdated(MovieUpdatedEvent event) {
+        // Runtimes are baked into the stored intervals, rooms are reloaded lazily on their next lookup. The schedules
+        // stay in place, so a reservation holding one is not raced by a freshly loaded copy.
+        schedulesByRoom.values().forEach(RoomSchedule::invalidate);
+    }
+
+    private RoomSchedule scheduleOf(Room room) {
+        return schedulesByRoom.computeIfAbsent(room.getName(),
+                name -> new RoomSchedule(() -> screeningRepository.findIntervalsByRoom(room)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningSummary;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Resolves the (movie, room, start) triple the commands identify a screening by without a query. The whole
+// table is loaded on first use, so a missing key means there is no such screening.
+@Component
+@RequiredArgsConstructor
+public class ScreeningKeyIndex {
+    private final ScreeningRepository screeningRepository;
+    private volatile Map<Key, Integer> idsByKey;
+
+    public Optional<Integer> find(String movieTitle, String roomName, LocalDateTime date) {
+        return Optional.ofNullable(index().get(Key.of(movieTitle, roomName, date)));
+    }
+
+    public void add(Screening screening) {
+        index().put(Key.of(screening), screening.getId());
+    }
+
+    public void remove(Screening screening) {
+        index().remove(Key.of(screening), screening.getId());
+    }
+
+    private Map<Key, Integer> index() {
+        var index = idsByKey;
+        if (index == null) {
+            synchronized (this) {
+                index = idsByKey;
+                if (index == null) {
+                    index = load();
+                    idsByKey = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private Map<Key, Integer> load() {
+        var summaries = screeningRepository.findAllSummaries();
+        var index = new ConcurrentHashMap<Key, Integer>(Math.max(16, summaries.size() * 2));
+        for (var summary : summaries) {
+            index.put(Key.of(summary), summary.getId());
+        }
+        return index;
+    }
+
+    private record Key(String movieTitle, String roomName, long startMinute) {
+        static Key of(String movieTitle, String roomName, LocalDateTime date) {
+            return new Key(movieTitle, roomName, DateTimes.toEpochMinute(date));
+        }
+
+        static Key of(Screening screening) {
+            return of(screening.getMovie().getTitle(), screening.getRoom().getName(), screening.getDate());
+        }
+
+        static Key of(ScreeningSummary summary) {
+            return of(summary.getMovieTitle(), summary.getRoomName(), summary.getDate());
+        }
+    }
+}
@@ -2,16 +2,24 @@ package com.epam.training.ticketservice.core.screening;
 
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningListing;
 
-import java.util.Date;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScreeningService {
+    int BREAK_LENGTH_IN_MINUTES = 10;
+
     List<Screening> getAllScreenings();
 
-    Result<Screening> ensureScreeningExists(String movieName, String roomName, Date date);
+    Slice<ScreeningListing> getScreenings(String movieTitle, String roomName, Pageable pageable);
+
+    Result<Screening> ensureScreeningExists(String movieName, String roomName, LocalDateTime date);
 
-    Result<Screening> createScreening(String movieName, String roomName, Date date);
+    Result<Screening> createScreening(String movieName, String roomName, LocalDateTime date);
 
-    Result<Screening> deleteScreening(String movieTitle, String roomName, Date date);
+    Result<Screening> deleteScreening(String movieTitle, String roomName, LocalDateTime date);
 }
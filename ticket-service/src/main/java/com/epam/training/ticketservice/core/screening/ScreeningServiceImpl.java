@@ -1,18 +1,31 @@
 package com.epam.training.ticketservice.core.screening;
 
+import com.epam.training.ticketservice.core.booking.BookingGroupCommit;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
 import com.epam.training.ticketservice.core.movie.MovieService;
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.room.RoomService;
 import com.epam.training.ticketservice.core.room.persistence.Room;
 import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningListing;
 import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
 import com.epam.training.ticketservice.core.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Calendar;
-import java.util.Date;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,8 +35,14 @@ public class ScreeningServiceImpl implements ScreeningService {
     private final ScreeningRepository screeningRepository;
     private final MovieService movieService;
     private final RoomService roomService;
-
-    private final int breakLengthInMinutes = 10;
+    private final ScreeningConflictDetector screeningConflictDetector;
+    private final ScreeningKeyIndex screeningKeyIndex;
+    private final ScreeningWrites screeningWrites;
+    private final CatalogueVersion catalogueVersion;
+    private final BookingRepository bookingRepository;
+    private final BookingGroupCommit bookingGroupCommit;
+    private final SeatMapRegistry seatMapRegistry;
+    private final PriceAttachmentRepository priceAttachmentRepository;
 
     @Override
     public List<Screening> getAllScreenings() {
@@ -31,14 +50,32 @@ public class ScreeningServiceImpl implements ScreeningService {
     }
 
     @Override
-    public Result<Screening> ensureScreeningExists(String movieTitle, String roomName, Date date) {
+    @Transactional(readOnly = true)
+    public Slice<ScreeningListing> getScreenings(String movieTitle, String roomName, Pageable pageable) {
+        return screeningRepository.findListings(movieTitle, roomName, sortedBy(pageable, "id"));
+    }
+
+    private static Pageable sortedBy(Pageable pageable, String property) {
+        // Unsorted pages could skip or repeat rows between queries
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSortOr(Sort.by(property)));
+    }
+
+    @Override
+    public Result<Screening> ensureScreeningExists(String movieTitle, String roomName, LocalDateTime date) {
         return ensureMovieAndRoomExists(movieTitle, roomName).flatMap(mr ->
-                Result.fromOptional(screeningRepository.findByRoomAndMovieAndDate(mr.room, mr.movie, date),
-                        new Error("Screening not found")
-                )
+                Result.fromOptional(screeningKeyIndex.find(mr.movie.getTitle(), mr.room.getName(), date),
+                        ErrorCode.SCREENING_NOT_FOUND
+                ).map(id -> screeningOf(id, mr, date))
         );
     }
 
+    private static Screening screeningOf(int id, MovieAndRoom mr, LocalDateTime date) {
+        // The movie and room come from their caches, so resolving a screening does not query the database
+        var screening = new Screening(mr.movie, mr.room, date);
+        screening.setId(id);
+        return screening;
+    }
+
     private Result<MovieAndRoom> ensureMovieAndRoomExists(String movieTitle, String roomName) {
         return movieService.ensureMovieExists(movieTitle).flatMap(movie ->
                 roomService.ensureRoomExists(roomName).map(room ->
@@ -51,64 +88,42 @@ public class ScreeningServiceImpl implements ScreeningService {
     }
 
     @Override
-    public Result<Screening> createScreening(String movieTitle, String roomName, Date date) {
+    public Result<Screening> createScreening(String movieTitle, String roomName, LocalDateTime date) {
         return userService.ensurePrivileged().flatMap(u ->
-                ensureMovieAndRoomExists(movieTitle, roomName).flatMap(mr -> {
-                    var screenings = screeningRepository.findByRoom(mr.room);
-                    if (canCreateScreening(screenings, date, mr.movie.getRuntimeInMinutes())) {
-                        return Result.err(new Error("There is an overlapping screening"));
-                    }
-
-                    if (canCreateScreeningWithBreak(screenings, date, mr.movie.getRuntimeInMinutes())) {
-                        return Result.err(
-                                new Error("This would start in the break period after another screening in this room"));
-                    }
-
-                    return Result.ok(screeningRepository.save(new Screening(mr.movie, mr.room, date)));
-                })
+                ensureMovieAndRoomExists(movieTitle, roomName).flatMap(mr -> screeningWrites.shared(() ->
+                        screeningConflictDetector.reserve(mr.room, date, mr.movie.getRuntimeInMinutes(),
+                                BREAK_LENGTH_IN_MINUTES,
+                                () -> screeningRepository.save(new Screening(mr.movie, mr.room, date))))
+                ).use(screeningKeyIndex::add)
+                        .use(s -> catalogueVersion.bump())
         );
     }
 
-    private boolean canCreateScreening(List<Screening> screenings, Date date, int movieRuntimeInMinutes) {
-        return screenings.stream()
-                .anyMatch(screening ->
-                        isDateRangesNotOverlap(
-                                screening.getDate(),
-                                screening.getMovie().getRuntimeInMinutes(),
-                                date,
-                                movieRuntimeInMinutes));
-    }
-
-    private boolean canCreateScreeningWithBreak(List<Screening> screenings, Date date, int movieRuntimeInMinutes) {
-        return screenings.stream()
-                .anyMatch(screening ->
-                        isDateRangesNotOverlap(
-                                screening.getDate(),
-                                screening.getMovie().getRuntimeInMinutes() + breakLengthInMinutes,
-                                date,
-                                movieRuntimeInMinutes + breakLengthInMinutes));
-    }
-
-    private boolean isDateRangesNotOverlap(Date date1, int minutes1, Date date2, int minutes2) {
-        Calendar date1Start = Calendar.getInstance();
-        date1Start.setTime(date1);
-        Calendar date1End = Calendar.getInstance();
-        date1End.setTime(date1);
-        date1End.add(Calendar.MINUTE, minutes1);
-
-        Calendar date2Start = Calendar.getInstance();
-        date2Start.setTime(date2);
-        Calendar date2End = Calendar.getInstance();
-        date2End.setTime(date2);
-        date2End.add(Calendar.MINUTE, minutes2);
-
-        return (date1Start.compareTo(date2End) <= 0 && date1End.compareTo(date2Start) >= 0);
-    }
-
     @Override
-    public Result<Screening> deleteScreening(String movieTitle, String roomName, Date date) {
+    public Result<Screening> deleteScreening(String movieTitle, String roomName, LocalDateTime date) {
         return userService.ensurePrivileged().flatMap(u ->
-                ensureScreeningExists(movieTitle, roomName, date).use(screeningRepository::delete)
+                ensureScreeningExists(movieTitle, roomName, date)
+                        .flatMap(this::deleteUnbooked)
+                        .use(seatMapRegistry::evict)
+                        .use(s -> priceAttachmentRepository.deleteByTargetAndTargetKey(
+                                PriceAttachment.Target.SCREENING, Integer.toString(s.getId())))
+                        .use(screeningConflictDetector::remove)
+                        .use(screeningKeyIndex::remove)
+                        .use(s -> catalogueVersion.bump())
         );
     }
+
+    private Result<Screening> deleteUnbooked(Screening screening) {
+        bookingGroupCommit.flush();
+        if (bookingRepository.existsByScreening(screening)) {
+            return Result.err(ErrorCode.SCREENING_HAS_BOOKINGS);
+        }
+        try {
+            screeningRepository.delete(screening);
+        } catch (DataIntegrityViolationException e) {
+            // A booking slipped in after the check, the foreign key keeps the screening
+            return Result.err(ErrorCode.SCREENING_HAS_BOOKINGS);
+        }
+        return Result.ok(screening);
+    }
 }
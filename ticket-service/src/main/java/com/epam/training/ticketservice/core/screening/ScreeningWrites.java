@@ -0,0 +1,33 @@
+package com.epam.training.ticketservice.core.screening;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Single screenings are checked and inserted under their room's lock by the conflict detector, so creates for
+// different rooms run side by side. An import checks against its own view of every room it touches and commits them
+// all at once, so it runs alone until its screenings are visible to the detector.
+@Component
+public class ScreeningWrites {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public <T> T shared(Supplier<T> write) {
+        lock.readLock().lock();
+        try {
+            return write.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public <T> T exclusive(Supplier<T> write) {
+        lock.writeLock().lock();
+        try {
+            return write.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
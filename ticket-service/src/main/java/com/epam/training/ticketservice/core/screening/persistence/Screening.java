@@ -7,48 +7,60 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.time.LocalDateTime;
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
-import javax.persistence.ManyToOne;
-import javax.persistence.FetchType;
-import javax.persistence.JoinColumn;
 import javax.persistence.Id;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 @Entity
+@Table(indexes = @Index(name = "idx_screening_room_date", columnList = "room_name, date"))
 @Data
 @NoArgsConstructor
 public class Screening {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // Takes 50 ids per sequence call like the other entities on hibernate_sequence, see V8__sequence_allocation.sql
+    @SequenceGenerator(name = "screening_id", sequenceName = "hibernate_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "screening_id")
     private int id;
 
-    private Date date;
+    private LocalDateTime date;
+
+    @Column(nullable = false)
+    private LocalDateTime endDate;
 
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    // Loaded only where a query asks for it, see the entity graphs in ScreeningRepository
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "room_name", nullable = false)
     @OnDelete(action = OnDeleteAction.NO_ACTION)
     private Room room;
 
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "movie_title", nullable = false)
     @OnDelete(action = OnDeleteAction.NO_ACTION)
     private Movie movie;
 
-    public Screening(Movie movie, Room room, Date date) {
+    public Screening(Movie movie, Room room, LocalDateTime date) {
         this.movie = movie;
         this.room = room;
         this.date = date;
+        refreshEndDate();
+    }
+
+    public void refreshEndDate() {
+        endDate = date.plusMinutes(movie.getRuntimeInMinutes());
     }
 
     @Override
     public String toString() {
-        var sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        return String.format("%s, screened in room %s, at %s",
-                movie,
-                room.getName(),
-                sdf.format(date));
+        return new ScreeningListing(movie.getTitle(), movie.getGenre(), movie.getRuntimeInMinutes(), room.getName(),
+                date).toString();
     }
 }
@@ -0,0 +1,10 @@
+package com.epam.training.ticketservice.core.screening.persistence;
+
+import java.time.LocalDateTime;
+
+// What conflict checks need of a screening, the stored end date spares them a join to the movie's runtime
+public record ScreeningInterval(int id, LocalDateTime date, LocalDateTime endDate) {
+    public static ScreeningInterval of(Screening screening) {
+        return new ScreeningInterval(screening.getId(), screening.getDate(), screening.getEndDate());
+    }
+}
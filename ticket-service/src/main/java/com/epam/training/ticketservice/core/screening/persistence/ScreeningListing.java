@@ -0,0 +1,18 @@
+package com.epam.training.ticketservice.core.screening.persistence;
+
+import com.epam.training.ticketservice.core.movie.persistence.MovieListing;
+import com.epam.training.ticketservice.core.time.DateTimes;
+
+import java.time.LocalDateTime;
+
+// A row of "list screenings", flat because a JPQL constructor expression can not build the nested movie
+public record ScreeningListing(String movieTitle, String movieGenre, int movieRuntimeInMinutes, String roomName,
+                               LocalDateTime date) {
+    @Override
+    public String toString() {
+        return String.format("%s, screened in room %s, at %s",
+                new MovieListing(movieTitle, movieGenre, movieRuntimeInMinutes),
+                roomName,
+                DateTimes.format(date));
+    }
+}
@@ -2,14 +2,54 @@ package com.epam.training.ticketservice.core.screening.persistence;
 
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
 import com.epam.training.ticketservice.core.room.persistence.Room;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Date;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ScreeningRepository extends JpaRepository<Screening, Integer> {
-    public Optional<Screening> findByRoomAndMovieAndDate(Room room, Movie movie, Date date);
+    @Override
+    @EntityGraph(attributePaths = {"movie", "room"})
+    public List<Screening> findAll();
+
+    @EntityGraph(attributePaths = "movie")
+    public List<Screening> findByMovie(Movie movie);
+
+    @Query("select new com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval("
+            + "s.id, s.date, s.endDate) from Screening s where s.room = :room")
+    public List<ScreeningInterval> findIntervalsByRoom(@Param("room") Room room);
+
+    @Query("select new com.epam.training.ticketservice.core.screening.persistence.ScreeningListing("
+            + "m.title, m.genre, m.runtimeInMinutes, s.room.name, s.date) from Screening s join s.movie m"
+            + " where (:movieTitle is null or m.title = :movieTitle)"
+            + " and (:roomName is null or s.room.name = :roomName)")
+    public Slice<ScreeningListing> findListings(@Param("movieTitle") String movieTitle,
+                                                @Param("roomName") String roomName, Pageable pageable);
+
+    @Query("select new com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval("
+            + "s.id, s.date, s.endDate) from Screening s where s.room = :room"
+            + " and s.date between :earliestStart and :latestStart and s.endDate >= :earliestEnd")
+    public List<ScreeningInterval> findInRoomIntersecting(@Param("room") Room room,
+                                                          @Param("earliestStart") LocalDateTime earliestStart,
+                                                          @Param("latestStart") LocalDateTime latestStart,
+                                                          @Param("earliestEnd") LocalDateTime earliestEnd);
+
+    @Query("select s.id as id, s.movie.title as movieTitle, s.room.name as roomName, s.date as date"
+            + " from Screening s")
+    public List<ScreeningSummary> findAllSummaries();
 
-    public List<Screening> findByRoom(Room room);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select s.id as id, s.movie.title as movieTitle, s.room.name as roomName, s.date as date"
+            + " from Screening s order by s.id")
+    public Stream<ScreeningSummary> streamAllSummaries();
 }
@@ -0,0 +1,14 @@
+package com.epam.training.ticketservice.core.screening.persistence;
+
+import java.time.LocalDateTime;
+
+// Flat view of a screening, loading it does not pull the movie and room entities into the persistence context
+public interface ScreeningSummary {
+    int getId();
+
+    String getMovieTitle();
+
+    String getRoomName();
+
+    LocalDateTime getDate();
+}
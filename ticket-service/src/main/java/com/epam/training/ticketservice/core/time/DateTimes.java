@@ -0,0 +1,31 @@
+package com.epam.training.ticketservice.core.time;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+public final class DateTimes {
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private DateTimes() {
+    }
+
+    public static LocalDateTime parse(String dateTime) {
+        return LocalDateTime.parse(dateTime, FORMATTER);
+    }
+
+    public static String format(LocalDateTime dateTime) {
+        return FORMATTER.format(dateTime);
+    }
+
+    // Screening times carry no zone, UTC only serves as a fixed reference point for the minute arithmetic
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.training.ticketservice.core.user;
+
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+@Component
+public class CredentialVerifier {
+    private final PasswordHasher passwordHasher;
+    private final ExpiringCache<VerifiedCredential, Boolean> verified;
+
+    @Autowired
+    public CredentialVerifier(PasswordHasher passwordHasher,
+                              @Value("${ticket-service.password.verification-cache.size:1024}") int cacheSize,
+                              @Value("${ticket-service.password.verification-cache.ttl:PT1M}") Duration cacheTtl) {
+        this(passwordHasher, new ExpiringCache<>(cacheSize, cacheTtl));
+    }
+
+    public CredentialVerifier(PasswordHasher passwordHasher, ExpiringCache<VerifiedCredential, Boolean> verified) {
+        this.passwordHasher = passwordHasher;
+        this.verified = verified;
+    }
+
+    public boolean verify(User user, String password) {
+        var credential = new VerifiedCredential(user.getUsername(), digest(user.getPassword(), password));
+        if (verified.get(credential).isPresent()) {
+            return true;
+        }
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            return false;
+        }
+        verified.put(credential, Boolean.TRUE);
+        return true;
+    }
+
+    // The stored hash is part of the digest, so a changed password never hits an old entry
+    private static String digest(String storedHash, String password) {
+        try {
+            var sha = MessageDigest.getInstance("SHA-256");
+            sha.update(String.valueOf(storedHash).getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            sha.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(sha.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedCredential(String username, String digest) {
+    }
+}
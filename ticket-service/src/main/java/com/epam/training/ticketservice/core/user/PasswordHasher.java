@@ -0,0 +1,77 @@
+package com.epam.training.ticketservice.core.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+@Component
+public class PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 256;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public PasswordHasher(@Value("${ticket-service.password.hash-iterations:210000}") int iterations) {
+        this.iterations = iterations;
+    }
+
+    public String hash(String password) {
+        var salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        var encoder = Base64.getEncoder();
+        return String.join("$", PREFIX, Integer.toString(iterations),
+                encoder.encodeToString(salt), encoder.encodeToString(derive(password, salt, iterations)));
+    }
+
+    public boolean isHashed(String stored) {
+        return split(stored).length == 4;
+    }
+
+    public boolean matches(String password, String storedHash) {
+        var parts = split(storedHash);
+        if (parts.length != 4) {
+            return false;
+        }
+        var decoder = Base64.getDecoder();
+        var expected = decoder.decode(parts[3]);
+        var actual = derive(password, decoder.decode(parts[2]), Integer.parseInt(parts[1]));
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    // Accounts created before hashing still hold their password in plaintext until they next sign in
+    public boolean matchesLegacy(String password, String storedPlaintext) {
+        if (storedPlaintext == null || isHashed(storedPlaintext)) {
+            return false;
+        }
+        return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                storedPlaintext.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] split(String stored) {
+        var parts = stored == null ? new String[0] : stored.split("\\$");
+        return parts.length == 4 && PREFIX.equals(parts[0]) ? parts : new String[0];
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        var spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not hash password", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -17,4 +17,6 @@ public interface UserService {
     Optional<User> getLoggedInUser();
 
     Result<User> ensurePrivileged();
+
+    Result<User> ensureUnprivileged();
 }
@@ -1,8 +1,12 @@
 package com.epam.training.ticketservice.core.user;
 
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.user.persistence.User;
 import com.epam.training.ticketservice.core.user.persistence.UserRepository;
+import com.epam.training.ticketservice.core.user.session.Session;
+import com.epam.training.ticketservice.core.user.session.SessionContext;
+import com.epam.training.ticketservice.core.user.session.SessionRegistry;
 
 import java.util.Optional;
 
@@ -13,21 +17,25 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private Optional<User> loggedInUser = Optional.empty();
+    private final PasswordHasher passwordHasher;
+    private final CredentialVerifier credentialVerifier;
+    private final SessionRegistry sessionRegistry;
+    private final SessionContext sessionContext;
 
     @Override
     public Result<User> signUp(String username, String password) {
         var userMaybe = userRepository.findById(username);
         if (userMaybe.isPresent()) {
-            return Result.err(new Error("User already exists"));
+            return Result.err(ErrorCode.USER_EXISTS);
         }
-        return Result.ok(userRepository.save(new User(username, password, User.Role.USER)));
+        return Result.ok(userRepository.save(new User(username, passwordHasher.hash(password), User.Role.USER)));
     }
 
     @Override
     public Result<User> signOut() {
-        return Result.fromOptional(loggedInUser, new Error("No user to sign out"))
-                .use(u -> loggedInUser = Optional.empty());
+        return Result.fromOptional(
+                sessionRegistry.close(sessionContext.currentToken()).map(Session::getUser),
+                ErrorCode.NO_USER_TO_SIGN_OUT);
     }
 
     @Override
@@ -42,32 +50,53 @@ public class UserServiceImpl implements UserService {
 
     private Result<User> signIn(String username, String password, User.Role privilege) {
         return Result.fromOptional(
-                        userRepository.findByUsernameAndPassword(username, password),
-                        new Error("Login failed due to incorrect credentials"))
+                        userRepository.findById(username).filter(u -> verify(u, password)),
+                        ErrorCode.INCORRECT_CREDENTIALS)
                 .flatMap(u -> {
-                    if (loggedInUser.isPresent()) {
-                        return Result.err(new Error("User already logged in"));
+                    if (getLoggedInUser().isPresent()) {
+                        return Result.err(ErrorCode.ALREADY_SIGNED_IN);
                     }
                     if (u.getRole() != privilege) {
-                        return Result.err(new Error("Login failed due to incorrect credentials"));
+                        return Result.err(ErrorCode.INCORRECT_CREDENTIALS);
                     }
                     return Result.ok(u);
-                }).use(u -> loggedInUser = Optional.of(u));
+                }).use(u -> sessionRegistry.open(sessionContext.currentToken(), u));
+    }
+
+    private boolean verify(User user, String password) {
+        if (passwordHasher.isHashed(user.getPassword())) {
+            return credentialVerifier.verify(user, password);
+        }
+        if (!passwordHasher.matchesLegacy(password, user.getPassword())) {
+            return false;
+        }
+        user.setPassword(passwordHasher.hash(password));
+        userRepository.save(user);
+        return true;
     }
 
     @Override
     public Optional<User> getLoggedInUser() {
-        return loggedInUser;
+        return sessionRegistry.find(sessionContext.currentToken()).map(Session::getUser);
     }
 
     @Override
     public Result<User> ensurePrivileged() {
-        var err = new Error("Insufficient privilege");
-        return Result.fromOptional(loggedInUser, err).flatMap(u -> {
+        return Result.fromOptional(getLoggedInUser(), ErrorCode.INSUFFICIENT_PRIVILEGE).flatMap(u -> {
             if (u.getRole() == User.Role.ADMIN) {
                 return Result.ok(u);
             }
-            return Result.err(err);
+            return Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE);
+        });
+    }
+
+    @Override
+    public Result<User> ensureUnprivileged() {
+        return Result.fromOptional(getLoggedInUser(), ErrorCode.NOT_SIGNED_IN).flatMap(u -> {
+            if (u.getRole() == User.Role.USER) {
+                return Result.ok(u);
+            }
+            return Result.err(ErrorCode.PRIVILEGED_CAN_NOT_BOOK);
         });
     }
 }
@@ -1,12 +1,17 @@
 package com.epam.training.ticketservice.core.user.persistence;
 
-import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
-    Optional<User> findByUsernameAndPassword(String username, String password);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<User> streamAllByOrderByUsername();
 }
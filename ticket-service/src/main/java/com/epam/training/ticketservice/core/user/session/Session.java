@@ -0,0 +1,27 @@
+package com.epam.training.ticketservice.core.user.session;
+
+import com.epam.training.ticketservice.core.user.persistence.User;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class Session {
+    private final String token;
+    private final User user;
+    private volatile Instant lastAccess;
+
+    public Session(String token, User user, Instant lastAccess) {
+        this.token = token;
+        this.user = user;
+        this.lastAccess = lastAccess;
+    }
+
+    void touch(Instant now) {
+        lastAccess = now;
+    }
+
+    boolean isIdleSince(Instant cutoff) {
+        return lastAccess.isBefore(cutoff);
+    }
+}
@@ -0,0 +1,31 @@
+package com.epam.training.ticketservice.core.user.session;
+
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class SessionContext {
+    public static final String CONSOLE_TOKEN = "console";
+
+    private final ThreadLocal<String> currentToken = new ThreadLocal<>();
+
+    public String currentToken() {
+        var token = currentToken.get();
+        return token == null ? CONSOLE_TOKEN : token;
+    }
+
+    public <T> T callAs(String token, Supplier<T> action) {
+        var previous = currentToken.get();
+        currentToken.set(token);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                currentToken.remove();
+            } else {
+                currentToken.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.epam.training.ticketservice.core.user.session;
+
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class SessionRegistry {
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public SessionRegistry(@Value("${ticket-service.session.idle-timeout:PT30M}") Duration idleTimeout) {
+        this(idleTimeout, Clock.systemUTC());
+    }
+
+    public SessionRegistry(Duration idleTimeout, Clock clock) {
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    public Optional<Session> find(String token) {
+        var session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        var now = clock.instant();
+        if (isExpired(session, now.minus(idleTimeout))) {
+            sessions.remove(token, session);
+            return Optional.empty();
+        }
+        session.touch(now);
+        return Optional.of(session);
+    }
+
+    public Session open(String token, User user) {
+        evictExpired();
+        var session = new Session(token, user, clock.instant());
+        sessions.put(token, session);
+        return session;
+    }
+
+    public Optional<Session> close(String token) {
+        return find(token).map(session -> {
+            sessions.remove(token, session);
+            return session;
+        });
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void evictExpired() {
+        var cutoff = clock.instant().minus(idleTimeout);
+        sessions.values().removeIf(session -> isExpired(session, cutoff));
+    }
+
+    // Only sessions of server connections expire, the console session lasts as long as the shell
+    private static boolean isExpired(Session session, Instant cutoff) {
+        return !SessionContext.CONSOLE_TOKEN.equals(session.getToken()) && session.isIdleSince(cutoff);
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.training.ticketservice.ui.batch;
+
+import org.jline.reader.Parser;
+import org.jline.terminal.Terminal;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.core.annotation.Order;
+import org.springframework.shell.Shell;
+import org.springframework.shell.ShellRunner;
+import org.springframework.shell.jline.ScriptShellRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * Runs the commands of --script=<file> (or stdin for --script or --script=-) one after the other, each framed as
+ *
+ *   >>> <number> <command line>
+ *   <output lines>
+ *   <<< <number> <ok|error|exit> <milliseconds>
+ *
+ * "error" marks commands the shell could not run at all, such as unknown commands or invalid arguments.
+ * Blank lines and lines starting with # are skipped and not numbered.
+ */
+@Component
+@Order(ScriptShellRunner.PRECEDENCE - 50)
+public class BatchShellRunner implements ShellRunner, ExitCodeGenerator {
+    static final String SCRIPT_OPTION = "script";
+    private static final String STDIN = "-";
+
+    private final FramedCommands commands;
+    private final Terminal terminal;
+    private int failedCommands;
+
+    public BatchShellRunner(Shell shell, Parser parser, Terminal terminal) {
+        this.commands = new FramedCommands(shell, parser);
+        this.terminal = terminal;
+    }
+
+    @Override
+    public boolean canRun(ApplicationArguments args) {
+        return args.containsOption(SCRIPT_OPTION);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        var values = args.getOptionValues(SCRIPT_OPTION);
+        var script = values.isEmpty() ? STDIN : values.get(0);
+        try (var reader = STDIN.equals(script)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8)) {
+            run(reader);
+        }
+    }
+
+    void run(BufferedReader reader) throws IOException {
+        var writer = terminal.writer();
+        int number = 0;
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (!FramedCommands.isCommand(line)) {
+                continue;
+            }
+            var status = commands.evaluate(++number, line, writer);
+            if (status == FramedCommands.Status.EXIT) {
+                return;
+            }
+            if (status == FramedCommands.Status.ERROR) {
+                failedCommands++;
+            }
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return failedCommands == 0 ? 0 : 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.training.ticketservice.ui.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.jline.reader.Parser;
+import org.jline.reader.SyntaxError;
+import org.springframework.shell.ExitRequest;
+import org.springframework.shell.Input;
+import org.springframework.shell.Shell;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Evaluates command lines one at a time and frames their output, see BatchShellRunner for the format
+@RequiredArgsConstructor
+public class FramedCommands {
+    private static final String COMMENT = "#";
+
+    private final Shell shell;
+    private final Parser parser;
+
+    public enum Status {
+        OK, ERROR, EXIT;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    public static boolean isCommand(String line) {
+        return !line.isBlank() && !line.strip().startsWith(COMMENT);
+    }
+
+    public Status evaluate(int number, String line, PrintWriter writer) {
+        writer.printf(">>> %d %s%n", number, line);
+        writer.flush();
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = shell.evaluate(new ScriptInput(line, parser.parse(line, line.length() + 1).words()));
+        } catch (SyntaxError e) {
+            // An unbalanced quote or a trailing backslash fails only this line, not the whole run
+            result = e;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        var status = Status.OK;
+        if (result instanceof ExitRequest) {
+            status = Status.EXIT;
+        } else if (result instanceof Throwable error) {
+            status = Status.ERROR;
+            writer.println(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName());
+        } else if (result != null && result != Shell.NO_INPUT) {
+            writer.println(result);
+        }
+        writer.printf("<<< %d %s %d%n", number, status, millis);
+        writer.flush();
+        return status;
+    }
+
+    private record ScriptInput(String rawText, List<String> words) implements Input {
+    }
+}
@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.booking.BookingService;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class BookingCommand {
+    private final BookingService bookingService;
+
+    @ShellMethod(key = "book")
+    public String book(String movieTitle, String roomName, String date, String seats) {
+        var d = DateTimes.parse(date);
+        var result = Seat.tryParseAll(seats).flatMap(s -> bookingService.book(movieTitle, roomName, d, s));
+        if (!result.isOk()) {
+            return ErrorMessages.of(result.unwrapErr());
+        }
+        var booking = result.unwrap();
+        return String.format("Seats booked: %s; the price for this booking is %s HUF",
+                Seat.format(booking.getSeats()), booking.getPrice().getTotal());
+    }
+}
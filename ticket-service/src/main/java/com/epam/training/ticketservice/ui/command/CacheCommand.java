@@ -0,0 +1,28 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class CacheCommand {
+    private final Map<String, ExpiringCache<?, ?>> caches;
+
+    @ShellMethod(key = "show cache stats")
+    public String showCacheStats() {
+        return new TreeMap<>(caches).entrySet().stream()
+                .map(e -> {
+                    var stats = e.getValue().stats();
+                    return String.format("%s: %d hits, %d misses, %d evictions, %d/%d entries, %.0f%% hit rate",
+                            e.getKey(), stats.hits(), stats.misses(), stats.evictions(), stats.size(),
+                            stats.maximumSize(), stats.hitRate() * 100);
+                })
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.epam.training.ticketservice.ui.command;
+
+import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
+import org.springframework.stereotype.Component;
+
+import java.io.PrintWriter;
+import java.util.function.Supplier;
+
+// Where commands that stream their output write to: the terminal, or the connection the command came in on
+@Component
+@RequiredArgsConstructor
+public class CommandOutput {
+    private final Terminal terminal;
+    private final ThreadLocal<PrintWriter> currentWriter = new ThreadLocal<>();
+
+    public PrintWriter writer() {
+        var writer = currentWriter.get();
+        return writer == null ? terminal.writer() : writer;
+    }
+
+    public <T> T callWith(PrintWriter writer, Supplier<T> action) {
+        var previous = currentWriter.get();
+        currentWriter.set(writer);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                currentWriter.remove();
+            } else {
+                currentWriter.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.result.Failure;
+
+// The core reports failures as codes, the texts the shell prints live here
+public final class ErrorMessages {
+    private ErrorMessages() {
+    }
+
+    public static String of(Failure failure) {
+        var template = switch (failure.code()) {
+            case USER_EXISTS -> "User already exists";
+            case INCORRECT_CREDENTIALS -> "Login failed due to incorrect credentials";
+            case ALREADY_SIGNED_IN -> "User already logged in";
+            case NOT_SIGNED_IN -> "You are not signed in";
+            case NO_USER_TO_SIGN_OUT -> "No user to sign out";
+            case INSUFFICIENT_PRIVILEGE -> "Insufficient privilege";
+            case PRIVILEGED_CAN_NOT_BOOK -> "Privileged accounts can not book tickets";
+            case MOVIE_NOT_FOUND -> "Movie not found";
+            case MOVIE_EXISTS -> "Movie already exists";
+            case ROOM_NOT_FOUND -> "Room not found";
+            case ROOM_EXISTS -> "Room already exists";
+            case SCREENING_NOT_FOUND -> "Screening not found";
+            case SCREENING_OVERLAPS -> "There is an overlapping screening";
+            case SCREENING_IN_BREAK -> "This would start in the break period after another screening in this room";
+            case SCREENING_HAS_BOOKINGS -> "The screening has bookings, it can not be deleted";
+            case INVALID_SEAT -> "Invalid seat: %s, seats are written as <row>,<column>";
+            case SEAT_DOES_NOT_EXIST -> "Seat %s does not exist in this room";
+            case SEAT_TAKEN -> "Seat %s is already taken";
+            case TOO_MANY_SEATS -> "A booking can have at most %s seats";
+            case BOOKING_NOT_SAVED -> "The booking could not be saved, please try again";
+            case BOOKING_NOT_CONFIRMED -> "The booking was not confirmed in time, check your bookings";
+            case PRICE_COMPONENT_NOT_FOUND -> "Price component not found";
+            case PRICE_COMPONENT_EXISTS -> "Price component already exists";
+            case PRICE_COMPONENT_ALREADY_ATTACHED -> "Price component is already attached";
+            case IMPORT_FILE_NOT_FOUND -> "File not found: %s";
+            case IMPORT_READ_FAILED -> "Could not read %s: %s";
+            case IMPORT_WRITE_FAILED -> "Could not save %s, stopped at row %d and imported nothing";
+            case IMPORT_FIELD_COUNT -> "Expected 4 fields but found %d";
+            case IMPORT_UNKNOWN_ROW_TYPE -> "Unknown row type: %s";
+            case IMPORT_UNTERMINATED_QUOTE -> "Unterminated quoted field";
+            case IMPORT_EXPECTED_OBJECT -> "Expected an object";
+            case IMPORT_MISSING_TYPE -> "Missing type";
+            case IMPORT_MISSING_FIELD -> "Missing %s";
+            case IMPORT_NOT_POSITIVE -> "The %s must be positive: %s";
+            case IMPORT_INVALID_VALUE -> "Invalid %s: %s";
+            case EXPORT_DIRECTORY_NOT_FOUND -> "Directory not found: %s";
+            case EXPORT_WRITE_FAILED -> "Could not write %s: %s";
+        };
+        return failure.details().isEmpty() ? template : String.format(template, failure.details().toArray());
+    }
+}
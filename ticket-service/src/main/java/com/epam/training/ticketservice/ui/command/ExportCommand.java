@@ -0,0 +1,27 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.exporter.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+import java.nio.file.Path;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class ExportCommand {
+    private final ExportService exportService;
+
+    @ShellMethod(key = "export")
+    public String exportCatalogue(String file) {
+        var result = exportService.exportCatalogue(Path.of(file));
+        if (!result.isOk()) {
+            return ErrorMessages.of(result.unwrapErr());
+        }
+        var report = result.unwrap();
+        return String.format("Exported %d movies, %d rooms, %d screenings, %d users, %d bookings, "
+                        + "%d price components and %d price attachments to %s (%d bytes)",
+                report.movies(), report.rooms(), report.screenings(), report.users(), report.bookings(),
+                report.priceComponents(), report.priceAttachments(), file, report.bytes());
+    }
+}
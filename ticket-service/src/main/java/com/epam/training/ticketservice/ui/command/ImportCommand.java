@@ -0,0 +1,41 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.importer.ImportReport;
+import com.epam.training.ticketservice.core.importer.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+import java.nio.file.Path;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class ImportCommand {
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ImportService importService;
+
+    @ShellMethod(key = "import")
+    public String importFile(String file) {
+        var result = importService.importFile(Path.of(file));
+        if (!result.isOk()) {
+            return ErrorMessages.of(result.unwrapErr());
+        }
+        return format(result.unwrap());
+    }
+
+    private static String format(ImportReport report) {
+        var output = new StringBuilder(String.format("Imported %d movies, %d rooms and %d screenings",
+                report.movies(), report.rooms(), report.screenings()));
+        var errors = report.errors();
+        if (!errors.isEmpty()) {
+            output.append(String.format("%n%d rows were skipped:", errors.size()));
+            errors.stream().limit(MAX_REPORTED_ERRORS).forEach(e ->
+                    output.append(String.format("%nRow %d: %s", e.row(), ErrorMessages.of(e.failure()))));
+            if (errors.size() > MAX_REPORTED_ERRORS) {
+                output.append(String.format("%n... and %d more", errors.size() - MAX_REPORTED_ERRORS));
+            }
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.metrics.MetricsAspect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class MetricsCommand {
+    private final MeterRegistry meterRegistry;
+
+    @ShellMethod(key = "show metrics")
+    public String showMetrics() {
+        // The running "show metrics" itself has not been recorded yet
+        var commands = meterRegistry.find(MetricsAspect.COMMAND_TIMER).timers().stream()
+                .filter(t -> t.count() > 0)
+                .sorted(Comparator.comparing(MetricsCommand::operationOf))
+                .map(t -> formatTimer(t) + formatRepositoryCalls(operationOf(t)));
+        var services = meterRegistry.find(MetricsAspect.SERVICE_TIMER).timers().stream()
+                .sorted(Comparator.comparing(MetricsCommand::operationOf))
+                .map(MetricsCommand::formatTimer);
+        var errors = meterRegistry.find(MetricsAspect.ERROR_COUNTER).counters().stream()
+                .sorted(Comparator.comparing(MetricsCommand::operationOf)
+                        .thenComparing(c -> c.getId().getTag(MetricsAspect.CODE_TAG)))
+                .map(MetricsCommand::formatError);
+
+        return Stream.of(section("Commands", commands), section("Services", services), section("Errors", errors))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatRepositoryCalls(String command) {
+        var summary = meterRegistry.find(MetricsAspect.COMMAND_REPOSITORY_CALLS)
+                .tag(MetricsAspect.OPERATION_TAG, command)
+                .summary();
+        return summary == null ? "" : String.format(", %.1f repository calls", summary.mean());
+    }
+
+    private static String formatTimer(Timer timer) {
+        var snapshot = timer.takeSnapshot();
+        return String.format("%s: %d calls, p50 %s, p99 %s, max %s", operationOf(timer), snapshot.count(),
+                formatMillis(percentile(snapshot.percentileValues(), 0.5)),
+                formatMillis(percentile(snapshot.percentileValues(), 0.99)),
+                formatMillis(snapshot.max(TimeUnit.MILLISECONDS)));
+    }
+
+    private static double percentile(ValueAtPercentile[] values, double percentile) {
+        for (var value : values) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format("%.3f ms", millis);
+    }
+
+    private static String formatError(Counter counter) {
+        return String.format("%s: %s %d times", operationOf(counter),
+                counter.getId().getTag(MetricsAspect.CODE_TAG), (long) counter.count());
+    }
+
+    private static String operationOf(Meter meter) {
+        return meter.getId().getTag(MetricsAspect.OPERATION_TAG);
+    }
+
+    private static String section(String title, Stream<String> lines) {
+        var body = lines.map(line -> "  " + line).collect(Collectors.joining("\n"));
+        return title + ":\n" + (body.isEmpty() ? "  none" : body);
+    }
+}
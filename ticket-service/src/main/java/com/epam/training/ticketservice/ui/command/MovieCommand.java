@@ -4,31 +4,27 @@ import com.epam.training.ticketservice.core.movie.MovieService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
-
-import java.util.stream.Collectors;
+import org.springframework.shell.standard.ShellOption;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class MovieCommand {
     private final MovieService movieService;
+    private final PagedOutput pagedOutput;
 
     @ShellMethod(key = "list movies")
-    public String listMovies() {
-        var movies = movieService.getAllMovies();
-        if (movies.isEmpty()) {
-            return "There are no movies at the moment";
-        }
-
-        return movies.stream()
-                .map(Object::toString)
-                .collect(Collectors.joining("\n"));
+    public String listMovies(@ShellOption(defaultValue = ShellOption.NULL) Integer page,
+                             @ShellOption(defaultValue = ShellOption.NULL) Integer limit,
+                             @ShellOption(defaultValue = ShellOption.NULL) String title) {
+        return pagedOutput.print(pageable -> movieService.getMovies(title, pageable), page, limit,
+                "There are no movies at the moment");
     }
 
     @ShellMethod(key = "create movie")
     public String createMovie(String title, String genre, int runtimeInMinutes) {
         return movieService.createMovie(title, genre, runtimeInMinutes)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 
@@ -36,7 +32,7 @@ public class MovieCommand {
     public String updateMovie(String title, String genre, int runtimeInMinutes) {
         return movieService.updateMovie(title, genre, runtimeInMinutes)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 
@@ -44,7 +40,7 @@ public class MovieCommand {
     public String deleteMovie(String title) {
         return movieService.deleteMovie(title)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 }
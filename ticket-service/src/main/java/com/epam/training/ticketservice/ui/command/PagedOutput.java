@@ -0,0 +1,37 @@
+package com.epam.training.ticketservice.ui.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class PagedOutput {
+    private static final int CHUNK_SIZE = 100;
+
+    private final CommandOutput commandOutput;
+
+    public <T> String print(Function<Pageable, Slice<T>> source, Integer page, Integer limit, String emptyMessage) {
+        var writer = commandOutput.writer();
+        // Without a page or a limit every row is written, one chunk per query
+        boolean single = page != null || limit != null;
+        Pageable pageable = PageRequest.of(page == null ? 0 : Math.max(page - 1, 0),
+                limit == null ? CHUNK_SIZE : Math.max(limit, 1));
+        boolean written = false;
+        Slice<T> slice;
+        do {
+            slice = source.apply(pageable);
+            for (var row : slice) {
+                writer.println(row);
+                written = true;
+            }
+            writer.flush();
+            pageable = slice.nextPageable();
+        } while (!single && slice.hasNext());
+        return written ? null : emptyMessage;
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.pricing.PricingService;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class PricingCommand {
+    private final PricingService pricingService;
+
+    @ShellMethod(key = "update base price")
+    public String updateBasePrice(int price) {
+        return pricingService.updateBasePrice(price)
+                .toOptional()
+                .map(ErrorMessages::of)
+                .orElse(null);
+    }
+
+    @ShellMethod(key = "create price component")
+    public String createPriceComponent(String name, int amount) {
+        return pricingService.createPriceComponent(name, amount)
+                .toOptional()
+                .map(ErrorMessages::of)
+                .orElse(null);
+    }
+
+    @ShellMethod(key = "attach price component to movie")
+    public String attachToMovie(String componentName, String movieTitle) {
+        return pricingService.attachToMovie(componentName, movieTitle)
+                .toOptional()
+                .map(ErrorMessages::of)
+                .orElse(null);
+    }
+
+    @ShellMethod(key = "attach price component to room")
+    public String attachToRoom(String componentName, String roomName) {
+        return pricingService.attachToRoom(componentName, roomName)
+                .toOptional()
+                .map(ErrorMessages::of)
+                .orElse(null);
+    }
+
+    @ShellMethod(key = "attach price component to screening")
+    public String attachToScreening(String componentName, String movieTitle, String roomName, String date) {
+        var d = DateTimes.parse(date);
+        return pricingService.attachToScreening(componentName, movieTitle, roomName, d)
+                .toOptional()
+                .map(ErrorMessages::of)
+                .orElse(null);
+    }
+
+    @ShellMethod(key = "show price for")
+    public String showPrice(String movieTitle, String roomName, String date, String seats) {
+        var d = DateTimes.parse(date);
+        var result = Seat.tryParseAll(seats).flatMap(s -> pricingService.calculatePrice(movieTitle, roomName, d, s));
+        if (!result.isOk()) {
+            return ErrorMessages.of(result.unwrapErr());
+        }
+        return String.format("The price for this booking would be %s HUF", result.unwrap());
+    }
+}
@@ -4,31 +4,27 @@ import com.epam.training.ticketservice.core.room.RoomService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
-
-import java.util.stream.Collectors;
+import org.springframework.shell.standard.ShellOption;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class RoomCommand {
     private final RoomService roomService;
+    private final PagedOutput pagedOutput;
 
     @ShellMethod(key = "list rooms")
-    public String listRooms() {
-        var rooms = roomService.getAllRooms();
-        if (rooms.isEmpty()) {
-            return "There are no rooms at the moment";
-        }
-
-        return rooms.stream()
-                .map(Object::toString)
-                .collect(Collectors.joining("\n"));
+    public String listRooms(@ShellOption(defaultValue = ShellOption.NULL) Integer page,
+                            @ShellOption(defaultValue = ShellOption.NULL) Integer limit,
+                            @ShellOption(defaultValue = ShellOption.NULL) String name) {
+        return pagedOutput.print(pageable -> roomService.getRooms(name, pageable), page, limit,
+                "There are no rooms at the moment");
     }
 
     @ShellMethod(key = "create room")
     public String createRoom(String name, int rows, int cols) {
         return roomService.createRoom(name, rows, cols)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 
@@ -36,7 +32,7 @@ public class RoomCommand {
     public String updateRoom(String name, int rows, int cols) {
         return roomService.updateRoom(name, rows, cols)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 
@@ -44,7 +40,7 @@ public class RoomCommand {
     public String deleteRoom(String name) {
         return roomService.deleteRoom(name)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 }
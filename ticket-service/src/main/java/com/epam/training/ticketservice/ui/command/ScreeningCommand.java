@@ -1,47 +1,42 @@
 package com.epam.training.ticketservice.ui.command;
 
 import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.time.DateTimes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.stream.Collectors;
+import org.springframework.shell.standard.ShellOption;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class ScreeningCommand {
     private final ScreeningService screeningService;
+    private final PagedOutput pagedOutput;
 
     @ShellMethod(key = "list screenings")
-    public String listRooms() {
-        var screenings = screeningService.getAllScreenings();
-        if (screenings.isEmpty()) {
-            return "There are no screenings";
-        }
-
-        return screenings.stream()
-                .map(Object::toString)
-                .collect(Collectors.joining("\n"));
+    public String listScreenings(@ShellOption(defaultValue = ShellOption.NULL) Integer page,
+                                 @ShellOption(defaultValue = ShellOption.NULL) Integer limit,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String movie,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String room) {
+        return pagedOutput.print(pageable -> screeningService.getScreenings(movie, room, pageable), page, limit,
+                "There are no screenings");
     }
 
     @ShellMethod(key = "create screening")
-    public String createScreening(String movieTitle, String roomName, String date) throws ParseException {
-        var d = new SimpleDateFormat("yyyy-MM-dd HH:mm").parse(date);
+    public String createScreening(String movieTitle, String roomName, String date) {
+        var d = DateTimes.parse(date);
         return screeningService.createScreening(movieTitle, roomName, d)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 
     @ShellMethod(key = "delete screening")
-    public String deleteScreening(String movieTitle, String roomName, String date) throws ParseException {
-        var d = new SimpleDateFormat("yyyy-MM-dd HH:mm").parse(date);
+    public String deleteScreening(String movieTitle, String roomName, String date) {
+        var d = DateTimes.parse(date);
         return screeningService.deleteScreening(movieTitle, roomName, d)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(null);
     }
 }
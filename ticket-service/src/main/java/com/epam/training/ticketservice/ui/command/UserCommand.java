@@ -1,5 +1,9 @@
 package com.epam.training.ticketservice.ui.command;
 
+import com.epam.training.ticketservice.core.booking.BookingService;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.time.DateTimes;
 import com.epam.training.ticketservice.core.user.UserService;
 import com.epam.training.ticketservice.core.user.persistence.User;
 import org.springframework.shell.standard.ShellComponent;
@@ -7,16 +11,19 @@ import org.springframework.shell.standard.ShellComponent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellMethod;
 
+import java.util.stream.Collectors;
+
 @ShellComponent
 @RequiredArgsConstructor
 public class UserCommand {
     private final UserService userService;
+    private final BookingService bookingService;
 
     @ShellMethod(key = "sign up")
     public String signUp(String username, String password) {
         return userService.signUp(username, password)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(String.format("Successfully signed up with '%s'", username));
     }
 
@@ -24,7 +31,7 @@ public class UserCommand {
     public String signInPrivileged(String username, String password) {
         return userService.signInPrivileged(username, password)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(String.format("Successfully signed in with '%s'", username));
     }
 
@@ -32,7 +39,7 @@ public class UserCommand {
     public String signInUnprivileged(String username, String password) {
         return userService.signInUnprivileged(username, password)
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse(String.format("Successfully signed in with '%s'", username));
     }
 
@@ -41,7 +48,7 @@ public class UserCommand {
     public String signOut() {
         return userService.signOut()
                 .toOptional()
-                .map(Throwable::getMessage)
+                .map(ErrorMessages::of)
                 .orElse("Signed out");
     }
 
@@ -51,7 +58,27 @@ public class UserCommand {
             if (u.getRole() == User.Role.ADMIN) {
                 return "Signed in with privileged account '" + u.getUsername() + "'";
             }
-            return "Signed in with account '" + u.getUsername() + "'";
+            return "Signed in with account '" + u.getUsername() + "'\n" + describeBookings(u);
         }).orElse("You are not signed in");
     }
+
+    private String describeBookings(User user) {
+        var bookings = bookingService.getBookings(user);
+        if (bookings.isEmpty()) {
+            return "You have not booked any tickets yet";
+        }
+        return "Your previous bookings are\n" + bookings.stream()
+                .map(this::describeBooking)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String describeBooking(Booking booking) {
+        var screening = booking.getScreening();
+        return String.format("Seats %s on %s in room %s starting at %s for %s HUF",
+                Seat.format(booking.getSeats()),
+                screening.getMovie().getTitle(),
+                screening.getRoom().getName(),
+                DateTimes.format(screening.getDate()),
+                booking.getPrice().getTotal());
+    }
 }
@@ -0,0 +1,122 @@
+package com.epam.training.ticketservice.ui.http;
+
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/*
+ * Read-only JSON listings of the catalogue: GET /movies, /rooms and /screenings. Every response carries the catalogue
+ * version tag as its ETag, a request whose If-None-Match still names the current version is answered with 304 before
+ * any service is called. Bodies are rendered once per version and shared by all requests at that version.
+ *
+ * Off unless ticket-service.http.enabled=true, the shell runs alongside it.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "ticket-service.http.enabled", havingValue = "true")
+public class CatalogueHttpServer {
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String ALLOWED_METHODS = "GET, HEAD";
+
+    private final CatalogueVersion catalogueVersion;
+    private final Map<String, VersionedBody> resources;
+    private final InetSocketAddress address;
+    private HttpServer server;
+
+    public CatalogueHttpServer(MovieService movieService, RoomService roomService,
+                               ScreeningService screeningService, CatalogueVersion catalogueVersion,
+                               @Value("${ticket-service.http.address:127.0.0.1}") String address,
+                               @Value("${ticket-service.http.port:8080}") int port) {
+        this.catalogueVersion = catalogueVersion;
+        this.resources = Map.of(
+                "/movies", new VersionedBody(() -> CatalogueJson.movies(movieService.getAllMovies())),
+                "/rooms", new VersionedBody(() -> CatalogueJson.rooms(roomService.getAllRooms())),
+                "/screenings", new VersionedBody(() -> CatalogueJson.screenings(screeningService.getAllScreenings())));
+        this.address = new InetSocketAddress(address, port);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(address, 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("Serving the catalogue on {}", server.getAddress());
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            var resource = resources.get(exchange.getRequestURI().getPath());
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            var method = exchange.getRequestMethod();
+            var head = method.equals("HEAD");
+            if (!head && !method.equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", ALLOWED_METHODS);
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            // Read before rendering, a change committed meanwhile can only make the body newer than its ETag
+            var version = catalogueVersion.current();
+            var etag = "\"" + catalogueVersion.tagOf(version) + "\"";
+            var headers = exchange.getResponseHeaders();
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+            if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            var body = resource.at(version);
+            headers.set("Content-Type", CONTENT_TYPE);
+            if (head) {
+                headers.set("Content-Length", Integer.toString(body.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (var candidate : ifNoneMatch.split(",")) {
+            var tag = candidate.strip();
+            if (tag.equals("*") || tag.equals(etag) || tag.startsWith("W/") && tag.substring(2).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.training.ticketservice.ui.http;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+// The bodies of the read API, the fields follow the listing records of the shell's list commands
+final class CatalogueJson {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private CatalogueJson() {
+    }
+
+    static byte[] movies(List<Movie> movies) {
+        return array(movies, (json, movie) -> {
+            json.writeStringField("title", movie.getTitle());
+            json.writeStringField("genre", movie.getGenre());
+            json.writeNumberField("runtimeInMinutes", movie.getRuntimeInMinutes());
+        });
+    }
+
+    static byte[] rooms(List<Room> rooms) {
+        return array(rooms, (json, room) -> {
+            json.writeStringField("name", room.getName());
+            json.writeNumberField("rows", room.getRows());
+            json.writeNumberField("cols", room.getCols());
+        });
+    }
+
+    static byte[] screenings(List<Screening> screenings) {
+        return array(screenings, (json, screening) -> {
+            json.writeStringField("movieTitle", screening.getMovie().getTitle());
+            json.writeStringField("movieGenre", screening.getMovie().getGenre());
+            json.writeNumberField("movieRuntimeInMinutes", screening.getMovie().getRuntimeInMinutes());
+            json.writeStringField("roomName", screening.getRoom().getName());
+            json.writeStringField("date", DateTimes.format(screening.getDate()));
+        });
+    }
+
+    private static <T> byte[] array(List<T> items, Fields<T> fields) {
+        var body = new ByteArrayOutputStream();
+        try (var json = JSON_FACTORY.createGenerator(body)) {
+            json.writeStartArray();
+            for (var item : items) {
+                json.writeStartObject();
+                fields.write(json, item);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return body.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Fields<T> {
+        void write(JsonGenerator json, T item) throws IOException;
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.training.ticketservice.ui.http;
+
+import java.util.function.Supplier;
+
+// One rendered response body, reused for as long as the catalogue stays at the version it was rendered at
+class VersionedBody {
+    private final Supplier<byte[]> renderer;
+    private volatile Rendered rendered;
+
+    VersionedBody(Supplier<byte[]> renderer) {
+        this.renderer = renderer;
+    }
+
+    // The caller reads the version before anything else, so the body is at least as new as the version it is kept for
+    byte[] at(long version) {
+        var current = rendered;
+        if (current != null && current.version() == version) {
+            return current.body();
+        }
+        synchronized (this) {
+            current = rendered;
+            if (current == null || current.version() != version) {
+                current = new Rendered(version, renderer.get());
+                rendered = current;
+            }
+            return current.body();
+        }
+    }
+
+    private record Rendered(long version, byte[] body) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.epam.training.ticketservice.ui.server;
+
+import com.epam.training.ticketservice.core.user.session.SessionContext;
+import com.epam.training.ticketservice.core.user.session.SessionRegistry;
+import com.epam.training.ticketservice.ui.batch.FramedCommands;
+import com.epam.training.ticketservice.ui.command.CommandOutput;
+import org.jline.reader.Parser;
+import org.jline.terminal.Terminal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.core.annotation.Order;
+import org.springframework.shell.Shell;
+import org.springframework.shell.ShellRunner;
+import org.springframework.shell.jline.ScriptShellRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * With --serve[=<port>] the service takes its commands from TCP clients instead of the terminal. Each connection is
+ * served by a virtual thread and signed in independently of the others. Clients send one command per line in the
+ * shell's own grammar and every command is answered in the batch framing, see BatchShellRunner. "exit" closes the
+ * connection, closing the connection signs its user out.
+ *
+ * The shell swaps the process-wide Ctrl-C handler around every command, concurrent commands can leave a stale one
+ * behind, so stop the server with SIGTERM.
+ */
+@Component
+@Order(ScriptShellRunner.PRECEDENCE - 40)
+public class ServerShellRunner implements ShellRunner {
+    static final String SERVE_OPTION = "serve";
+    private static final String TOKEN_PREFIX = "tcp-";
+
+    private final FramedCommands commands;
+    private final Terminal terminal;
+    private final SessionContext sessionContext;
+    private final CommandOutput commandOutput;
+    private final SessionRegistry sessionRegistry;
+    private final String address;
+    private final int port;
+    private final AtomicLong connectionCount = new AtomicLong();
+
+    public ServerShellRunner(Shell shell, Parser parser, Terminal terminal, SessionContext sessionContext,
+                             CommandOutput commandOutput, SessionRegistry sessionRegistry,
+                             @Value("${ticket-service.server.address:127.0.0.1}") String address,
+                             @Value("${ticket-service.server.port:7878}") int port) {
+        this.commands = new FramedCommands(shell, parser);
+        this.terminal = terminal;
+        this.sessionContext = sessionContext;
+        this.commandOutput = commandOutput;
+        this.sessionRegistry = sessionRegistry;
+        this.address = address;
+        this.port = port;
+    }
+
+    @Override
+    public boolean canRun(ApplicationArguments args) {
+        return args.containsOption(SERVE_OPTION);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        var values = args.getOptionValues(SERVE_OPTION);
+        var listenPort = values.isEmpty() ? port : Integer.parseInt(values.get(0));
+        try (var serverSocket = new ServerSocket()) {
+            serverSocket.bind(new InetSocketAddress(address, listenPort));
+            terminal.writer().printf("Listening on %s%n", serverSocket.getLocalSocketAddress());
+            terminal.writer().flush();
+            serve(serverSocket);
+        }
+    }
+
+    // Returns once the server socket is closed and every connection has ended
+    public void serve(ServerSocket serverSocket) throws IOException {
+        Set<Socket> connections = ConcurrentHashMap.newKeySet();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                while (true) {
+                    var socket = accept(serverSocket);
+                    if (socket == null) {
+                        return;
+                    }
+                    connections.add(socket);
+                    var token = TOKEN_PREFIX + connectionCount.incrementAndGet();
+                    executor.execute(() -> {
+                        try {
+                            handle(socket, token);
+                        } finally {
+                            connections.remove(socket);
+                            closeQuietly(socket);
+                        }
+                    });
+                }
+            } finally {
+                connections.forEach(ServerShellRunner::closeQuietly);
+            }
+        }
+    }
+
+    private static Socket accept(ServerSocket serverSocket) throws IOException {
+        try {
+            return serverSocket.accept();
+        } catch (SocketException e) {
+            if (serverSocket.isClosed()) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private void handle(Socket socket, String token) {
+        try (var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             var writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            int number = 0;
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!FramedCommands.isCommand(line)) {
+                    continue;
+                }
+                var command = line;
+                var commandNumber = ++number;
+                var status = sessionContext.callAs(token, () ->
+                        commandOutput.callWith(writer, () -> commands.evaluate(commandNumber, command, writer)));
+                if (status == FramedCommands.Status.EXIT) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // The client went away, its session goes with it below
+        } finally {
+            sessionRegistry.close(token);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+    }
+}
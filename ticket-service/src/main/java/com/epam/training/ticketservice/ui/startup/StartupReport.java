@@ -0,0 +1,71 @@
+package com.epam.training.ticketservice.ui.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class StartupReport {
+    public static final String OPTION = "--startup-report";
+    public static final int CAPACITY = 10_000;
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+    private static final String BEAN_NAME_TAG = "beanName";
+    private static final int SHOWN_BEANS = 20;
+
+    private final Terminal terminal;
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            print(startup.drainBufferedTimeline().getEvents(), event.getTimeTaken());
+        }
+    }
+
+    private void print(List<StartupTimeline.TimelineEvent> events, Duration timeTaken) {
+        // Bean creation nests, so the time spent in dependencies is subtracted to get each bean's own share
+        var childDurations = new HashMap<Long, Duration>();
+        for (var event : events) {
+            var parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+        var beans = events.stream()
+                .filter(event -> BEAN_INSTANTIATION.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTiming(beanNameOf(event), event.getDuration(),
+                        event.getDuration().minus(childDurations.getOrDefault(event.getStartupStep().getId(),
+                                Duration.ZERO))))
+                .sorted(Comparator.comparing(BeanTiming::own).reversed())
+                .toList();
+
+        var writer = terminal.writer();
+        writer.printf("Startup took %d ms, %d beans were created%n", timeTaken.toMillis(), beans.size());
+        writer.printf("%8s %8s  %s%n", "own ms", "total ms", "bean");
+        beans.stream().limit(SHOWN_BEANS).forEach(bean ->
+                writer.printf("%8d %8d  %s%n", bean.own().toMillis(), bean.total().toMillis(), bean.name()));
+        writer.flush();
+    }
+
+    private static String beanNameOf(StartupTimeline.TimelineEvent event) {
+        for (var tag : event.getStartupStep().getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private record BeanTiming(String name, Duration total, Duration own) {
+    }
+}
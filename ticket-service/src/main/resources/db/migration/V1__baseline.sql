@@ -0,0 +1,34 @@
+-- The schema as Hibernate generated it before migrations were introduced. Existing databases are baselined at this
+-- version and skip it, see spring.flyway.baseline-on-migrate.
+create sequence if not exists hibernate_sequence start with 1 increment by 1;
+
+create table if not exists users (
+    username varchar(255) not null,
+    password varchar(255),
+    role varchar(255),
+    primary key (username)
+);
+
+create table if not exists movies (
+    title varchar(255) not null,
+    genre varchar(255),
+    runtime_in_minutes integer not null,
+    primary key (title)
+);
+
+create table if not exists rooms (
+    name varchar(255) not null,
+    cols integer not null,
+    rows integer not null,
+    primary key (name)
+);
+
+create table if not exists screening (
+    id integer not null,
+    date timestamp,
+    movie_title varchar(255) not null,
+    room_name varchar(255) not null,
+    primary key (id),
+    constraint fk_screening_movie foreign key (movie_title) references movies,
+    constraint fk_screening_room foreign key (room_name) references rooms
+);
@@ -0,0 +1,3 @@
+alter table screening add column if not exists end_date timestamp;
+
+create index if not exists idx_screening_room_date on screening (room_name, date);
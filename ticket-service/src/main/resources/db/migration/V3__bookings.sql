@@ -0,0 +1,19 @@
+create table if not exists bookings (
+    id integer not null,
+    base_price integer,
+    price_components varchar(1024),
+    seat_price integer,
+    price integer,
+    seats varchar(255),
+    screening_id integer not null,
+    username varchar(255) not null,
+    primary key (id),
+    constraint fk_booking_screening foreign key (screening_id) references screening,
+    constraint fk_booking_user foreign key (username) references users
+);
+
+-- Databases that picked the table up before the price snapshot existed
+alter table bookings add column if not exists base_price integer;
+alter table bookings add column if not exists price_components varchar(1024);
+alter table bookings add column if not exists seat_price integer;
+alter table bookings add column if not exists price integer;
@@ -0,0 +1,23 @@
+create table if not exists base_price (
+    id integer not null,
+    amount integer not null,
+    primary key (id)
+);
+
+create table if not exists price_components (
+    name varchar(255) not null,
+    amount integer not null,
+    primary key (name)
+);
+
+create table if not exists price_attachments (
+    id integer not null,
+    target varchar(255),
+    target_key varchar(255),
+    component_name varchar(255) not null,
+    primary key (id),
+    constraint uk_price_attachment unique (component_name, target, target_key),
+    constraint fk_price_attachment_component foreign key (component_name) references price_components
+);
+
+create index if not exists idx_price_attachment_target on price_attachments (target, target_key);
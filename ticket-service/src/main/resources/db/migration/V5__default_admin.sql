@@ -0,0 +1,5 @@
+-- The default admin/admin account, hashed ahead of time so startup does not pay for the key derivation. An existing
+-- admin keeps the password and role it has.
+insert into users (username, password, role)
+select 'admin', 'pbkdf2$210000$GCyNMKDmzKQV49nViY61zA==$DG8iJBM6GQHOID3GZ7Alu+LnT7eUIGsDANSVMv1o8ig=', 'ADMIN'
+where not exists (select 1 from users where username = 'admin');
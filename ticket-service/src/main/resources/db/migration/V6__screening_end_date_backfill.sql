@@ -0,0 +1,6 @@
+-- Screenings created before end dates were stored would never be found by the range-bounded overlap query
+update screening s
+set end_date = dateadd(minute, (select runtime_in_minutes from movies m where m.title = s.movie_title), s.date)
+where end_date is null;
+
+alter table screening alter column end_date set not null;
@@ -0,0 +1,2 @@
+-- 255 characters held about 40 seats, see Booking.MAX_SEATS
+alter table bookings alter column seats set data type varchar(16384);
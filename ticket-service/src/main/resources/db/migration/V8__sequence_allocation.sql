@@ -0,0 +1,4 @@
+-- Hibernate takes 50 ids per sequence call instead of one, matching allocationSize on the entities that use it, so
+-- an import of many screenings does not go to the database for every id. With the pooled-lo optimizer a call that
+-- returns n hands out n to n + 49, so the ids already issued stay below it.
+alter sequence hibernate_sequence increment by 50;
@@ -0,0 +1,134 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.booking.persistence.PriceSnapshot;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingGroupCommitTests {
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingGroupCommit bookingGroupCommit;
+
+    private final User user = new User("user", "password", User.Role.USER);
+    private final Screening screening = new Screening(new Movie("A", "A", 10), new Room("A", 10, 10),
+            LocalDateTime.of(2021, 3, 15, 10, 45));
+
+    @BeforeEach
+    void setUp() {
+        bookingGroupCommit = new BookingGroupCommit(bookingRepository);
+        bookingGroupCommit.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingGroupCommit.stop();
+    }
+
+    private Booking bookingOf(Seat seat) {
+        return new Booking(user, screening, List.of(seat), PriceSnapshot.of(PricePlan.of(1500, Map.of()), 1));
+    }
+
+    @Test
+    public void givenQueuedBookings_whenEnqueue_thenSavedTogetherAfterTheRunningBatch() throws Exception {
+        var first = bookingOf(new Seat(1, 1));
+        var second = bookingOf(new Seat(1, 2));
+        var third = bookingOf(new Seat(1, 3));
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(bookingRepository.saveAll(List.of(first))).thenAnswer(i -> {
+            writing.countDown();
+            release.await();
+            return List.of(first);
+        });
+        var savedFirst = bookingGroupCommit.enqueue(first);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        var savedSecond = bookingGroupCommit.enqueue(second);
+        var savedThird = bookingGroupCommit.enqueue(third);
+        assertFalse(savedSecond.isDone());
+        release.countDown();
+
+        assertEquals(first, savedFirst.get(5, TimeUnit.SECONDS));
+        assertEquals(second, savedSecond.get(5, TimeUnit.SECONDS));
+        assertEquals(third, savedThird.get(5, TimeUnit.SECONDS));
+        verify(bookingRepository).saveAll(List.of(second, third));
+    }
+
+    @Test
+    public void givenBadBookingInBatch_whenBatchFails_thenOnlyItsOwnCallerFails() throws Exception {
+        var blocker = bookingOf(new Seat(1, 1));
+        var good = bookingOf(new Seat(1, 2));
+        var bad = bookingOf(new Seat(1, 3));
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(bookingRepository.saveAll(List.of(blocker))).thenAnswer(i -> {
+            writing.countDown();
+            release.await();
+            return List.of(blocker);
+        });
+        when(bookingRepository.saveAll(List.of(good, bad))).thenThrow(new IllegalStateException());
+        when(bookingRepository.save(good)).thenReturn(good);
+        when(bookingRepository.save(bad)).thenThrow(new IllegalStateException());
+        bookingGroupCommit.enqueue(blocker);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        var savedGood = bookingGroupCommit.enqueue(good);
+        var savedBad = bookingGroupCommit.enqueue(bad);
+        release.countDown();
+
+        assertEquals(good, savedGood.get(5, TimeUnit.SECONDS));
+        var failure = assertThrows(CompletionException.class, savedBad::join);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    public void givenErrorWhileWriting_whenEnqueue_thenCallerFailsAndWriterGoesOn() throws Exception {
+        var failing = bookingOf(new Seat(1, 1));
+        var next = bookingOf(new Seat(1, 2));
+        when(bookingRepository.saveAll(List.of(failing))).thenThrow(new StackOverflowError());
+        when(bookingRepository.save(failing)).thenThrow(new StackOverflowError());
+        when(bookingRepository.saveAll(List.of(next))).thenReturn(List.of(next));
+
+        var savedFailing = bookingGroupCommit.enqueue(failing);
+        var failure = assertThrows(ExecutionException.class, () -> savedFailing.get(5, TimeUnit.SECONDS));
+        var savedNext = bookingGroupCommit.enqueue(next);
+
+        assertInstanceOf(StackOverflowError.class, failure.getCause());
+        assertEquals(next, savedNext.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenPendingBookings_whenFlush_thenReturnsOnceTheyAreWritten() {
+        var booking = bookingOf(new Seat(1, 1));
+        when(bookingRepository.saveAll(List.of(booking))).thenReturn(List.of(booking));
+        var saved = bookingGroupCommit.enqueue(booking);
+
+        bookingGroupCommit.flush();
+
+        assertTrue(saved.isDone());
+    }
+}
@@ -0,0 +1,293 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.booking.persistence.PriceSnapshot;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import com.epam.training.ticketservice.core.pricing.PricingService;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingServiceTests {
+    private static final PriceSnapshot PRICE_OF_ONE_SEAT = PriceSnapshot.of(PricePlan.of(1500, Map.of()), 1);
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ScreeningService screeningService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingGroupCommit bookingGroupCommit;
+
+    private BookingServiceImpl bookingService;
+
+    private final User user = new User("user", "password", User.Role.USER);
+    private final LocalDateTime date = LocalDateTime.of(2021, 3, 15, 10, 45);
+    private final Screening screening = new Screening(new Movie("A", "A", 10), new Room("A", 10, 10), date);
+
+    @BeforeEach
+    void setUp() {
+        bookingGroupCommit = new BookingGroupCommit(bookingRepository);
+        bookingGroupCommit.start();
+        lenient().when(pricingService.getPricePlan(any())).thenReturn(PricePlan.of(1500, Map.of()));
+        bookingService = new BookingServiceImpl(userService, screeningService, pricingService, bookingRepository,
+                new SeatMapRegistry(bookingRepository, bookingGroupCommit), bookingGroupCommit, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingGroupCommit.stop();
+    }
+
+    @Test
+    public void givenFreeSeats_whenBook_thenSaveBookingWithPrice() {
+        var seats = List.of(new Seat(5, 5), new Seat(5, 6));
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+
+        Result<Booking> result = bookingService.book("A", "A", date, seats);
+        bookingGroupCommit.flush();
+
+        var booking = new Booking(user, screening, seats, PriceSnapshot.of(PricePlan.of(1500, Map.of()), 2));
+        assertTrue(result.isOk());
+        assertEquals(booking, result.unwrap());
+        verify(bookingRepository).saveAll(List.of(booking));
+    }
+
+    @Test
+    public void givenPricePlanWithComponents_whenBook_thenBookingKeepsPriceBreakdown() {
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+        when(pricingService.getPricePlan(screening)).thenReturn(PricePlan.of(1000, Map.of("fee", 100, "vip", 50)));
+
+        var price = bookingService.book("A", "A", date, List.of(new Seat(1, 1), new Seat(1, 2))).unwrap().getPrice();
+
+        assertEquals(2300, price.getTotal());
+        assertEquals(1150, price.getSeatPrice());
+        assertEquals(1000, price.getBasePrice());
+        assertEquals(Map.of("fee", 100, "vip", 50), price.getComponents());
+    }
+
+    @Test
+    public void givenPersistedBooking_whenBookSameSeat_thenError() {
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening))
+                .thenReturn(List.of(new Booking(user, screening, List.of(new Seat(5, 5)), PRICE_OF_ONE_SEAT)));
+
+        Result<Booking> result = bookingService.book("A", "A", date, List.of(new Seat(5, 6), new Seat(5, 5)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SEAT_TAKEN.with(new Seat(5, 5)), result.unwrapErr());
+        verify(bookingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    public void givenBookedSeat_whenBookAgain_thenSeatMapIsNotReloaded() {
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+        bookingService.book("A", "A", date, List.of(new Seat(1, 1)));
+
+        Result<Booking> result = bookingService.book("A", "A", date, List.of(new Seat(1, 1)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SEAT_TAKEN.with(new Seat(1, 1)), result.unwrapErr());
+        verify(bookingRepository, times(1)).findByScreening(screening);
+    }
+
+    @Test
+    public void givenFailingSave_whenBook_thenErrorAndSeatsAreReleased() {
+        var seats = List.of(new Seat(1, 1));
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+        when(bookingRepository.saveAll(any())).thenThrow(new IllegalStateException()).thenReturn(List.of());
+        when(bookingRepository.save(any())).thenThrow(new IllegalStateException());
+
+        var failed = bookingService.book("A", "A", date, seats);
+
+        assertEquals(ErrorCode.BOOKING_NOT_SAVED, failed.unwrapErr().code());
+        assertTrue(bookingService.book("A", "A", date, seats).isOk());
+    }
+
+    @Test
+    public void givenSlowSave_whenBook_thenNotConfirmedAndSeatsAreKeptUntilTheSaveFails() throws Exception {
+        var seats = List.of(new Seat(1, 1));
+        var release = new CountDownLatch(1);
+        bookingService = new BookingServiceImpl(userService, screeningService, pricingService, bookingRepository,
+                new SeatMapRegistry(bookingRepository, bookingGroupCommit), bookingGroupCommit, Duration.ofMillis(50));
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+        when(bookingRepository.saveAll(any())).thenAnswer(i -> {
+            release.await();
+            throw new IllegalStateException();
+        }).thenReturn(List.of());
+        when(bookingRepository.save(any())).thenThrow(new IllegalStateException());
+
+        var unconfirmed = bookingService.book("A", "A", date, seats);
+        var whileSaving = bookingService.book("A", "A", date, seats);
+        release.countDown();
+        bookingGroupCommit.flush();
+
+        assertEquals(ErrorCode.BOOKING_NOT_CONFIRMED, unconfirmed.unwrapErr().code());
+        assertEquals(ErrorCode.SEAT_TAKEN, whileSaving.unwrapErr().code());
+        assertTrue(bookingService.book("A", "A", date, seats).isOk());
+    }
+
+    @Test
+    public void givenNoSignedInUser_whenBook_thenError() {
+        when(userService.ensureUnprivileged()).thenReturn(Result.err(ErrorCode.NOT_SIGNED_IN));
+
+        Result<Booking> result = bookingService.book("A", "A", date, List.of(new Seat(1, 1)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.NOT_SIGNED_IN, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenMoreSeatsThanABookingHolds_whenBook_thenErrorBeforeLookingUpTheScreening() {
+        var seats = new ArrayList<Seat>();
+        for (int i = 0; i <= Booking.MAX_SEATS; i++) {
+            seats.add(new Seat(1, i + 1));
+        }
+
+        Result<Booking> result = bookingService.book("A", "A", date, seats);
+
+        assertEquals(ErrorCode.TOO_MANY_SEATS.with(Booking.MAX_SEATS), result.unwrapErr());
+        verifyNoInteractions(screeningService);
+    }
+
+    @Test
+    public void givenMissingScreening_whenBook_thenError() {
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date))
+                .thenReturn(Result.err(ErrorCode.SCREENING_NOT_FOUND));
+
+        Result<Booking> result = bookingService.book("A", "A", date, List.of(new Seat(1, 1)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SCREENING_NOT_FOUND, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenSeatMapSubscriber_whenBook_thenBookedSeatsArePushed() throws Exception {
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        var received = new LinkedBlockingQueue<SeatMapDelta>();
+        bookingService.getSeatMapUpdates("A", "A", date).unwrap().subscribe(new Flow.Subscriber<>() {
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(SeatMapDelta delta) {
+                received.add(delta);
+            }
+
+            public void onError(Throwable throwable) {
+            }
+
+            public void onComplete() {
+            }
+        });
+        assertEquals(List.of(), received.poll(5, TimeUnit.SECONDS).seats());
+
+        bookingService.book("A", "A", date, List.of(new Seat(3, 4)));
+
+        assertEquals(List.of(new Seat(3, 4)), received.poll(5, TimeUnit.SECONDS).seats());
+    }
+
+    @Test
+    public void givenMissingScreening_whenGetSeatMapUpdates_thenError() {
+        when(screeningService.ensureScreeningExists("A", "A", date))
+                .thenReturn(Result.err(ErrorCode.SCREENING_NOT_FOUND));
+
+        var result = bookingService.getSeatMapUpdates("A", "A", date);
+
+        assertEquals(ErrorCode.SCREENING_NOT_FOUND, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenUser_whenGetBookings_thenReturnBookings() {
+        var bookings = List.of(new Booking(user, screening, List.of(new Seat(1, 1)), PRICE_OF_ONE_SEAT));
+        when(bookingRepository.findByUser(user)).thenReturn(bookings);
+
+        assertEquals(bookings, bookingService.getBookings(user));
+    }
+
+    @Test
+    public void givenConcurrentBuyers_whenBookOverlappingSeats_thenNoSeatIsPersistedTwice() throws Exception {
+        var persisted = new ConcurrentLinkedQueue<Booking>();
+        when(userService.ensureUnprivileged()).thenReturn(Result.ok(user));
+        when(screeningService.ensureScreeningExists("A", "A", date)).thenReturn(Result.ok(screening));
+        when(bookingRepository.findByScreening(screening)).thenReturn(List.of());
+        when(bookingRepository.saveAll(any())).thenAnswer(i -> {
+            Iterable<Booking> batch = i.getArgument(0);
+            batch.forEach(persisted::add);
+            return List.of();
+        });
+
+        int buyers = 16;
+        var executor = Executors.newFixedThreadPool(buyers);
+        var start = new CountDownLatch(1);
+        for (int b = 0; b < buyers; b++) {
+            int buyer = b;
+            executor.submit(() -> {
+                start.await();
+                for (int col = 1; col < 10; col++) {
+                    var row = 1 + (buyer + col) % 10;
+                    bookingService.book("A", "A", date, List.of(new Seat(row, col), new Seat(row, col + 1)));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        bookingGroupCommit.flush();
+
+        var seats = new ArrayList<Seat>();
+        persisted.forEach(booking -> seats.addAll(booking.getSeats()));
+        assertFalse(persisted.isEmpty());
+        assertEquals(seats.size(), new HashSet<>(seats).size());
+    }
+}
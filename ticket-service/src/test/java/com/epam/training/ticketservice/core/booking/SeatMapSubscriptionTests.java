@@ -0,0 +1,188 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatMapSubscriptionTests {
+    private final SeatMap seatMap = new SeatMap(20, 10);
+
+    private static class Deltas implements Flow.Subscriber<SeatMapDelta> {
+        private final BlockingQueue<SeatMapDelta> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SeatMapDelta delta) {
+            received.add(delta);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        SeatMapDelta next() throws InterruptedException {
+            var delta = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(delta);
+            return delta;
+        }
+
+        void assertNothingMore() throws InterruptedException {
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private Deltas subscribe(long demand) {
+        var deltas = new Deltas();
+        seatMap.subscribe(deltas);
+        deltas.subscription.request(demand);
+        return deltas;
+    }
+
+    @Test
+    public void givenOccupiedSeats_whenSubscribe_thenFirstDeltaIsCurrentOccupancy() throws Exception {
+        seatMap.reserve(List.of(new Seat(1, 1), new Seat(2, 3)));
+
+        var delta = subscribe(1).next();
+
+        assertEquals(0, delta.fromVersion());
+        assertEquals(1, delta.toVersion());
+        assertEquals(List.of(new Seat(1, 1), new Seat(2, 3)), delta.seats());
+    }
+
+    @Test
+    public void givenSubscriber_whenReserve_thenDeltaWithReservedSeats() throws Exception {
+        var deltas = subscribe(2);
+        assertEquals(List.of(), deltas.next().seats());
+
+        seatMap.reserve(List.of(new Seat(5, 5), new Seat(5, 6)));
+
+        var delta = deltas.next();
+        assertEquals(0, delta.fromVersion());
+        assertEquals(1, delta.toVersion());
+        assertEquals(List.of(new Seat(5, 5), new Seat(5, 6)), delta.seats());
+    }
+
+    @Test
+    public void givenSlowSubscriber_whenSeatsChange_thenChangesAreCoalesced() throws Exception {
+        var deltas = subscribe(1);
+        deltas.next();
+        seatMap.reserve(List.of(new Seat(1, 1)));
+        seatMap.reserve(List.of(new Seat(1, 2)));
+        seatMap.release(List.of(new Seat(1, 1)));
+
+        deltas.subscription.request(1);
+
+        var delta = deltas.next();
+        assertEquals(0, delta.fromVersion());
+        assertEquals(3, delta.toVersion());
+        assertEquals(List.of(new Seat(1, 2)), delta.seats());
+        deltas.assertNothingMore();
+    }
+
+    @Test
+    public void givenWideRoom_whenReserve_thenSeatsAreDecodedFromTheirWord() throws Exception {
+        var wideMap = new SeatMap(2, 100);
+        wideMap.reserve(List.of(new Seat(2, 70), new Seat(2, 100)));
+        var deltas = new Deltas();
+        wideMap.subscribe(deltas);
+
+        deltas.subscription.request(1);
+
+        assertEquals(List.of(new Seat(2, 70), new Seat(2, 100)), deltas.next().seats());
+    }
+
+    @Test
+    public void givenCancelledSubscription_whenReserve_thenNothingIsDelivered() throws Exception {
+        var deltas = subscribe(Long.MAX_VALUE);
+        deltas.next();
+
+        deltas.subscription.cancel();
+        seatMap.reserve(List.of(new Seat(1, 1)));
+
+        deltas.assertNothingMore();
+    }
+
+    @Test
+    public void givenSubscriber_whenClose_thenCompleted() throws Exception {
+        var deltas = subscribe(1);
+
+        seatMap.close();
+
+        assertTrue(deltas.completed.await(5, TimeUnit.SECONDS));
+        assertNull(deltas.error);
+    }
+
+    @Test
+    public void givenNonPositiveRequest_whenRequest_thenError() throws Exception {
+        var deltas = subscribe(0);
+
+        assertTrue(deltas.completed.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, deltas.error);
+    }
+
+    @Test
+    public void givenConcurrentBookings_whenApplyingEveryDelta_thenSubscriberSeesFinalOccupancy() throws Exception {
+        var deltas = subscribe(Long.MAX_VALUE);
+        int threads = 16;
+        var executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            var random = new Random(t);
+            executor.submit(() -> {
+                for (int attempt = 0; attempt < 1_000; attempt++) {
+                    var seats = List.of(new Seat(1 + random.nextInt(20), 1 + random.nextInt(10)));
+                    if (seatMap.reserve(seats).isOk() && random.nextBoolean()) {
+                        seatMap.release(seats);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        var expected = new HashSet<Seat>();
+        for (int row = 1; row <= 20; row++) {
+            for (int col = 1; col <= 10; col++) {
+                if (!seatMap.isFree(new Seat(row, col))) {
+                    expected.add(new Seat(row, col));
+                }
+            }
+        }
+        Set<Seat> occupied = new HashSet<>();
+        long version = 0;
+        while (!occupied.equals(expected)) {
+            var delta = deltas.next();
+            assertEquals(version, delta.fromVersion());
+            version = delta.toVersion();
+            for (var seat : delta.seats()) {
+                if (!occupied.remove(seat)) {
+                    occupied.add(seat);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatMapTests {
+    private final SeatMap seatMap = new SeatMap(20, 10);
+
+    @Test
+    public void givenFreeSeats_whenReserve_thenSeatsAreTaken() {
+        var seats = List.of(new Seat(5, 5), new Seat(5, 6));
+
+        var result = seatMap.reserve(seats);
+
+        assertTrue(result.isOk());
+        assertEquals(seats, result.unwrap());
+        assertFalse(seatMap.isFree(new Seat(5, 5)));
+        assertFalse(seatMap.isFree(new Seat(5, 6)));
+        assertTrue(seatMap.isFree(new Seat(5, 7)));
+    }
+
+    @Test
+    public void givenTakenSeat_whenReserve_thenErrorAndNothingReserved() {
+        seatMap.reserve(List.of(new Seat(5, 5)));
+
+        var result = seatMap.reserve(List.of(new Seat(5, 6), new Seat(5, 5)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SEAT_TAKEN.with(new Seat(5, 5)), result.unwrapErr());
+        assertTrue(seatMap.isFree(new Seat(5, 6)));
+    }
+
+    @Test
+    public void givenSameSeatTwice_whenReserve_thenError() {
+        var result = seatMap.reserve(List.of(new Seat(1, 1), new Seat(1, 1)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SEAT_TAKEN.with(new Seat(1, 1)), result.unwrapErr());
+        assertTrue(seatMap.isFree(new Seat(1, 1)));
+    }
+
+    @Test
+    public void givenSeatOutsideRoom_whenReserve_thenError() {
+        var result = seatMap.reserve(List.of(new Seat(1, 1), new Seat(21, 1)));
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.SEAT_DOES_NOT_EXIST.with(new Seat(21, 1)), result.unwrapErr());
+        assertTrue(seatMap.isFree(new Seat(1, 1)));
+    }
+
+    @Test
+    public void givenLastSeat_whenReserve_thenOnlyLastSeatIsTaken() {
+        seatMap.reserve(List.of(new Seat(20, 10)));
+
+        assertFalse(seatMap.isFree(new Seat(20, 10)));
+        assertTrue(seatMap.isFree(new Seat(20, 9)));
+        assertFalse(seatMap.isFree(new Seat(0, 1)));
+    }
+
+    @Test
+    public void givenReservedSeats_whenRelease_thenSeatsAreFree() {
+        var seats = List.of(new Seat(7, 1), new Seat(7, 2));
+        seatMap.reserve(seats);
+
+        seatMap.release(seats);
+
+        assertTrue(seatMap.isFree(new Seat(7, 1)));
+        assertTrue(seatMap.isFree(new Seat(7, 2)));
+    }
+
+    @Test
+    public void givenRoom_whenFits_thenComparesDimensions() {
+        assertTrue(seatMap.fits(new Room("A", 20, 10)));
+        assertFalse(seatMap.fits(new Room("A", 10, 20)));
+    }
+
+    @Test
+    public void givenManyThreads_whenReserveOverlappingSeats_thenEverySeatIsReservedAtMostOnce() throws Exception {
+        var reserved = new ConcurrentLinkedQueue<List<Seat>>();
+        int threads = 32;
+        var executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            var random = new Random(t);
+            executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < 2_000; attempt++) {
+                    var seats = new ArrayList<Seat>();
+                    for (int i = 0; i < 1 + random.nextInt(4); i++) {
+                        seats.add(new Seat(1 + random.nextInt(20), 1 + random.nextInt(10)));
+                    }
+                    var result = seatMap.reserve(seats);
+                    if (result.isOk()) {
+                        reserved.add(result.unwrap());
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        var seats = new ArrayList<Seat>();
+        reserved.forEach(seats::addAll);
+        var distinct = new HashSet<>(seats);
+        assertEquals(seats.size(), distinct.size());
+        for (int row = 1; row <= 20; row++) {
+            for (int col = 1; col <= 10; col++) {
+                var seat = new Seat(row, col);
+                assertEquals(distinct.contains(seat), !seatMap.isFree(seat));
+            }
+        }
+    }
+}
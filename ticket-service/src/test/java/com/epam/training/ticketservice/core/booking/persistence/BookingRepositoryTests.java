@@ -0,0 +1,46 @@
+package com.epam.training.ticketservice.core.booking.persistence;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class BookingRepositoryTests {
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void givenWholeRowOfLargeRoom_whenSaveBooking_thenAllSeatsAreStored() {
+        var user = entityManager.persist(new User("user", "password", User.Role.USER));
+        var movie = entityManager.persist(new Movie("A", "drama", 100));
+        var room = entityManager.persist(new Room("Wide", 2, 100));
+        var screening = entityManager.persist(new Screening(movie, room, LocalDateTime.of(2021, 3, 15, 10, 0)));
+        var row = new ArrayList<Seat>();
+        for (int col = 1; col <= room.getCols(); col++) {
+            row.add(new Seat(2, col));
+        }
+
+        var saved = bookingRepository.save(new Booking(user, screening, row,
+                PriceSnapshot.of(PricePlan.of(1500, Map.of()), row.size())));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(row, bookingRepository.findById(saved.getId()).orElseThrow().getSeats());
+    }
+}
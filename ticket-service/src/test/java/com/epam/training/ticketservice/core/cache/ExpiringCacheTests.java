@@ -0,0 +1,115 @@
+package com.epam.training.ticketservice.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpiringCacheTests {
+    @Test
+    public void givenPutValue_whenGet_thenReturnValue() {
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertEquals(Optional.empty(), cache.get("b"));
+    }
+
+    @Test
+    public void givenExpiredValue_whenGet_thenEmpty() {
+        var now = new AtomicReference<>(Instant.EPOCH);
+        var clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1), clock);
+        cache.put("a", 1);
+
+        now.set(Instant.EPOCH.plusSeconds(59));
+        assertEquals(Optional.of(1), cache.get("a"));
+        now.set(Instant.EPOCH.plusSeconds(60));
+        assertEquals(Optional.empty(), cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void givenFullCache_whenPut_thenLeastRecentlyUsedIsEvicted() {
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertEquals(Optional.empty(), cache.get("b"));
+        assertEquals(Optional.of(3), cache.get("c"));
+    }
+
+    @Test
+    public void givenLoader_whenGet_thenLoadOnceAndCountHitsMissesAndEvictions() {
+        var cache = new ExpiringCache<String, Integer>(1, Duration.ofMinutes(1));
+        var loads = new AtomicInteger();
+        Function<String, Optional<Integer>> loader = key -> {
+            loads.incrementAndGet();
+            return key.equals("missing") ? Optional.empty() : Optional.of(key.length());
+        };
+
+        assertEquals(Optional.of(1), cache.get("a", loader));
+        assertEquals(Optional.of(1), cache.get("a", loader));
+        assertEquals(Optional.empty(), cache.get("missing", loader));
+        assertEquals(Optional.empty(), cache.get("missing", loader));
+        assertEquals(Optional.of(2), cache.get("bb", loader));
+
+        assertEquals(4, loads.get());
+        assertEquals(new CacheStats(1, 4, 1, 1, 1), cache.stats());
+    }
+
+    @Test
+    public void givenValue_whenInvalidate_thenEmpty() {
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.invalidate("a");
+        assertEquals(Optional.empty(), cache.get("a"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void givenInvalidateDuringLoad_whenGet_thenLoadedValueIsNotCached() {
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1));
+
+        var loaded = cache.get("a", key -> {
+            cache.invalidate(key);
+            return Optional.of(1);
+        });
+
+        assertEquals(Optional.of(1), loaded);
+        assertEquals(Optional.empty(), cache.get("a"));
+        assertEquals(Optional.of(2), cache.get("a", key -> Optional.of(2)));
+        assertEquals(Optional.of(2), cache.get("a"));
+    }
+}
@@ -0,0 +1,311 @@
+package com.epam.training.ticketservice.core.exporter;
+
+import com.epam.training.ticketservice.core.booking.BookingGroupCommit;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.booking.persistence.BookingSummary;
+import com.epam.training.ticketservice.core.booking.persistence.PriceSnapshot;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePrice;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePriceRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponent;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningSummary;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import com.epam.training.ticketservice.core.user.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTests {
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingGroupCommit bookingGroupCommit;
+
+    @Mock
+    private BasePriceRepository basePriceRepository;
+
+    @Mock
+    private PriceComponentRepository priceComponentRepository;
+
+    @Mock
+    private PriceAttachmentRepository priceAttachmentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ExportServiceImpl exportService;
+
+    @TempDir
+    private Path directory;
+
+    private record TestScreening(int getId, String getMovieTitle, String getRoomName, LocalDateTime getDate)
+            implements ScreeningSummary {
+    }
+
+    private record TestBooking(int getId, String getUsername, int getScreeningId, List<Seat> getSeats,
+                               PriceSnapshot getPrice) implements BookingSummary {
+    }
+
+    private void givenEmptyCatalogue() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieRepository.streamAllByOrderByTitle()).thenReturn(Stream.empty());
+        when(roomRepository.streamAllByOrderByName()).thenReturn(Stream.empty());
+        when(screeningRepository.streamAllSummaries()).thenReturn(Stream.empty());
+        when(userRepository.streamAllByOrderByUsername()).thenReturn(Stream.empty());
+        when(bookingRepository.streamAllSummaries()).thenReturn(Stream.empty());
+        when(basePriceRepository.findAll()).thenReturn(List.of());
+        when(priceComponentRepository.findAll()).thenReturn(List.of());
+        when(priceAttachmentRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    public void givenNotPrivileged_whenExport_thenErrAndNoFileWritten() {
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
+        var file = directory.resolve("catalogue.tkts");
+
+        var result = exportService.exportCatalogue(file);
+
+        assertFalse(result.isOk());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void givenEmptyCatalogue_whenExport_thenHeaderAndEndRecordWritten() throws IOException {
+        givenEmptyCatalogue();
+        var file = directory.resolve("catalogue.tkts");
+
+        var report = exportService.exportCatalogue(file).unwrap();
+
+        var input = new SnapshotInput(Files.readAllBytes(file));
+        input.expectHeader();
+        assertEquals(CatalogueWriter.END, input.readByte());
+        assertEquals(0, input.readVarLong());
+        assertTrue(input.isExhausted());
+        assertEquals(new ExportReport(0, 0, 0, 0, 0, 0, 0, Files.size(file)), report);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void givenCatalogue_whenExport_thenEveryRecordWritten() throws IOException {
+        givenEmptyCatalogue();
+        var movie = new Movie("Sátántangó", "drama", 450);
+        var room = new Room("Pedersoli", 20, 10);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        var plan = new PricePlan(1500, Map.of("fee", -100), 1400);
+        var component = new PriceComponent("fee", -100);
+        when(movieRepository.streamAllByOrderByTitle()).thenReturn(Stream.of(movie));
+        when(roomRepository.streamAllByOrderByName()).thenReturn(Stream.of(room));
+        when(screeningRepository.streamAllSummaries())
+                .thenReturn(Stream.of(new TestScreening(7, "Sátántangó", "Pedersoli", date)));
+        when(userRepository.streamAllByOrderByUsername())
+                .thenReturn(Stream.of(new User("sanyi", "pbkdf2$1$a$b", User.Role.USER)));
+        when(bookingRepository.streamAllSummaries()).thenReturn(Stream.of(new TestBooking(9, "sanyi", 7,
+                List.of(new Seat(5, 5), new Seat(5, 6)), PriceSnapshot.of(plan, 2))));
+        when(basePriceRepository.findAll()).thenReturn(List.of(new BasePrice(1500)));
+        when(priceComponentRepository.findAll()).thenReturn(List.of(component));
+        when(priceAttachmentRepository.findAll())
+                .thenReturn(List.of(new PriceAttachment(component, PriceAttachment.Target.ROOM, "Pedersoli")));
+        var file = directory.resolve("catalogue.tkts");
+
+        var report = exportService.exportCatalogue(file).unwrap();
+
+        var input = new SnapshotInput(Files.readAllBytes(file));
+        input.expectHeader();
+        assertEquals(CatalogueWriter.MOVIE, input.readByte());
+        assertEquals(List.of("Sátántangó", "drama", 450L),
+                List.of(input.readString(), input.readString(), input.readVarLong()));
+        assertEquals(CatalogueWriter.ROOM, input.readByte());
+        assertEquals(List.of("Pedersoli", 20L, 10L),
+                List.of(input.readString(), input.readVarLong(), input.readVarLong()));
+        assertEquals(CatalogueWriter.SCREENING, input.readByte());
+        assertEquals(List.of(7L, 0L, 0L, DateTimes.toEpochMinute(date)),
+                List.of(input.readVarLong(), input.readVarLong(), input.readVarLong(), input.readSignedVarLong()));
+        assertEquals(CatalogueWriter.USER, input.readByte());
+        assertEquals(List.of("sanyi", "pbkdf2$1$a$b", (long) User.Role.USER.ordinal()),
+                List.of(input.readString(), input.readString(), input.readVarLong()));
+        assertEquals(CatalogueWriter.BOOKING, input.readByte());
+        assertEquals(List.of(9L, "sanyi", 7L, 2L, 5L, 5L, 5L, 6L, 2800L, 1400L, 1500L, 1L, "fee", -100L),
+                List.of(input.readVarLong(), input.readString(), input.readVarLong(), input.readVarLong(),
+                        input.readVarLong(), input.readVarLong(), input.readVarLong(), input.readVarLong(),
+                        input.readVarLong(), input.readVarLong(), input.readVarLong(), input.readVarLong(),
+                        input.readString(), input.readSignedVarLong()));
+        assertEquals(CatalogueWriter.BASE_PRICE, input.readByte());
+        assertEquals(1500L, input.readVarLong());
+        assertEquals(CatalogueWriter.COMPONENT, input.readByte());
+        assertEquals(List.of("fee", -100L), List.of(input.readString(), input.readSignedVarLong()));
+        assertEquals(CatalogueWriter.ATTACHMENT, input.readByte());
+        assertEquals(List.of("fee", (long) PriceAttachment.Target.ROOM.ordinal(), "Pedersoli"),
+                List.of(input.readString(), input.readVarLong(), input.readString()));
+        assertEquals(CatalogueWriter.END, input.readByte());
+        assertEquals(8, input.readVarLong());
+        assertTrue(input.isExhausted());
+        assertEquals(new ExportReport(1, 1, 1, 1, 1, 1, 1, Files.size(file)), report);
+    }
+
+    @Test
+    public void givenMoreScreeningsThanTheBuffer_whenExport_thenAllWrittenAndEntitiesDetached() throws IOException {
+        givenEmptyCatalogue();
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        when(movieRepository.streamAllByOrderByTitle()).thenReturn(Stream.of(new Movie("A", "A", 100)));
+        when(roomRepository.streamAllByOrderByName()).thenReturn(Stream.of(new Room("R", 1, 1)));
+        when(screeningRepository.streamAllSummaries()).thenReturn(IntStream.rangeClosed(1, 20_000)
+                .mapToObj(i -> new TestScreening(i, "A", "R", date.plusMinutes(200L * i))));
+        var file = directory.resolve("catalogue.tkts");
+
+        var report = exportService.exportCatalogue(file).unwrap();
+
+        assertEquals(20_000, report.screenings());
+        assertEquals(Files.size(file), report.bytes());
+        verify(entityManager, times(20)).clear();
+    }
+
+    @Test
+    public void givenFailingStream_whenExport_thenErrAndPreviousSnapshotKept() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieRepository.streamAllByOrderByTitle()).thenReturn(Stream.of(new Movie("A", "A", 100)));
+        when(roomRepository.streamAllByOrderByName()).thenReturn(Stream.of(new Room("R", 1, 1)));
+        when(screeningRepository.streamAllSummaries()).thenReturn(Stream.generate(() -> {
+            throw new UncheckedIOException(new IOException("Disk full"));
+        }));
+        var file = Files.writeString(directory.resolve("catalogue.tkts"), "previous");
+
+        var result = exportService.exportCatalogue(file);
+
+        assertEquals(ErrorCode.EXPORT_WRITE_FAILED.with(file, "java.io.IOException: Disk full"), result.unwrapErr());
+        assertEquals("previous", Files.readString(file));
+        assertFalse(Files.exists(directory.resolve("catalogue.tkts.tmp")));
+    }
+
+    @Test
+    public void givenPendingBookings_whenExport_thenFlushedBeforeARepeatableReadTransaction() {
+        givenEmptyCatalogue();
+        var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        exportService.exportCatalogue(directory.resolve("catalogue.tkts")).unwrap();
+
+        var order = inOrder(bookingGroupCommit, transactionManager);
+        order.verify(bookingGroupCommit).flush();
+        order.verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.ISOLATION_REPEATABLE_READ, definition.getValue().getIsolationLevel());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    public void givenUnexpectedFailure_whenExport_thenThrownAndTemporaryFileDeleted() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieRepository.streamAllByOrderByTitle()).thenReturn(Stream.generate(() -> {
+            throw new IllegalStateException();
+        }));
+        var file = Files.writeString(directory.resolve("catalogue.tkts"), "previous");
+
+        assertThrows(IllegalStateException.class, () -> exportService.exportCatalogue(file));
+
+        assertEquals("previous", Files.readString(file));
+        assertFalse(Files.exists(directory.resolve("catalogue.tkts.tmp")));
+    }
+
+    private static class SnapshotInput {
+        private final ByteBuffer buffer;
+
+        SnapshotInput(byte[] bytes) {
+            this.buffer = ByteBuffer.wrap(bytes);
+        }
+
+        void expectHeader() {
+            var magic = new byte[CatalogueWriter.MAGIC.length];
+            buffer.get(magic);
+            assertArrayEquals(CatalogueWriter.MAGIC, magic);
+            assertEquals(CatalogueWriter.VERSION, readByte());
+        }
+
+        int readByte() {
+            return buffer.get();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            var bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        boolean isExhausted() {
+            return !buffer.hasRemaining();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.epam.training.ticketservice.core.importer;
+
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
+import com.epam.training.ticketservice.core.screening.ScreeningConflictDetector;
+import com.epam.training.ticketservice.core.screening.ScreeningKeyIndex;
+import com.epam.training.ticketservice.core.screening.ScreeningWrites;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportServiceTests {
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @Mock
+    private ScreeningConflictDetector screeningConflictDetector;
+
+    @Mock
+    private ScreeningKeyIndex screeningKeyIndex;
+
+    @Spy
+    private ScreeningWrites screeningWrites = new ScreeningWrites();
+
+    @Mock
+    private CatalogueVersion catalogueVersion;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ImportServiceImpl importService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        // Screenings get their ids on persist, the schedule tells them apart by id
+        var ids = new AtomicInteger();
+        lenient().doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof Screening screening) {
+                screening.setId(ids.incrementAndGet());
+            }
+            return null;
+        }).when(entityManager).persist(any());
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+
+    @Test
+    public void givenNotPrivileged_whenImport_thenErr() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
+        var file = write("programme.csv", "movie,A,drama,100");
+
+        var result = importService.importFile(file);
+
+        assertFalse(result.isOk());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    public void givenMissingFile_whenImport_thenErr() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+
+        var result = importService.importFile(directory.resolve("missing.csv"));
+
+        assertEquals(ErrorCode.IMPORT_FILE_NOT_FOUND.with(directory.resolve("missing.csv")), result.unwrapErr());
+    }
+
+    @Test
+    public void givenCsv_whenImport_thenAllRowsPersistedAndIndexedAfterCommit() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var file = write("programme.csv",
+                "# comments and blank lines are skipped",
+                "",
+                "movie,\"Sátántangó, part one\",drama,100",
+                "room,Pedersoli,10,20",
+                "screening,\"Sátántangó, part one\",Pedersoli,2021-03-15 10:00",
+                "screening,\"Sátántangó, part one\",Pedersoli,2021-03-15 12:00");
+
+        var report = importService.importFile(file).unwrap();
+
+        assertEquals(new ImportReport(1, 1, 2, List.of()), report);
+        verify(entityManager).persist(new Movie("Sátántangó, part one", "drama", 100));
+        verify(entityManager).persist(new Room("Pedersoli", 10, 20));
+        verify(entityManager, times(4)).persist(any());
+        verify(transactionManager).commit(any());
+        verify(screeningConflictDetector, times(2)).add(any());
+        verify(screeningKeyIndex, times(2)).add(any());
+        verify(catalogueVersion).bump();
+    }
+
+    @Test
+    public void givenOverlappingRowsInFile_whenImport_thenLaterRowsReported() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var file = write("programme.csv",
+                "movie,A,drama,100",
+                "room,R,10,10",
+                "screening,A,R,2021-03-15 10:00",
+                "screening,A,R,2021-03-15 11:00",
+                "screening,A,R,2021-03-15 11:45",
+                "screening,A,R,2021-03-15 11:51");
+
+        var report = importService.importFile(file).unwrap();
+
+        assertEquals(2, report.screenings());
+        assertEquals(List.of(
+                new ImportReport.RowError(4, ErrorCode.SCREENING_OVERLAPS.failure()),
+                new ImportReport.RowError(5, ErrorCode.SCREENING_IN_BREAK.failure())
+        ), report.errors());
+    }
+
+    @Test
+    public void givenScreeningInDatabase_whenImportOverlappingRow_thenRowReported() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var movie = new Movie("A", "drama", 100);
+        var room = new Room("R", 10, 10);
+        var existing = new Screening(movie, room, LocalDateTime.of(2021, 3, 15, 10, 0));
+        existing.setId(1000);
+        when(movieRepository.findById("A")).thenReturn(Optional.of(movie));
+        when(roomRepository.findById("R")).thenReturn(Optional.of(room));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(existing)));
+        var file = write("programme.csv", "screening,A,R,2021-03-15 11:00");
+
+        var report = importService.importFile(file).unwrap();
+
+        assertEquals(List.of(new ImportReport.RowError(1, ErrorCode.SCREENING_OVERLAPS.failure())), report.errors());
+        verify(screeningConflictDetector, never()).add(any());
+        verify(screeningKeyIndex, never()).add(any());
+    }
+
+    @Test
+    public void givenInvalidRows_whenImport_thenEachReportedWithItsLine() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var file = write("programme.csv",
+                "movie,A,drama,long",
+                "room,R,0,10",
+                "screening,A,R",
+                "screening,B,R,2021-03-15 10:00",
+                "cinema,A,B,C",
+                "movie,\"A,drama,100");
+
+        var report = importService.importFile(file).unwrap();
+
+        assertEquals(List.of(
+                new ImportReport.RowError(1, ErrorCode.IMPORT_INVALID_VALUE.with("runtime", "long")),
+                new ImportReport.RowError(2, ErrorCode.IMPORT_NOT_POSITIVE.with("rows", "0")),
+                new ImportReport.RowError(3, ErrorCode.IMPORT_FIELD_COUNT.with(3)),
+                new ImportReport.RowError(4, ErrorCode.MOVIE_NOT_FOUND.failure()),
+                new ImportReport.RowError(5, ErrorCode.IMPORT_UNKNOWN_ROW_TYPE.with("cinema")),
+                new ImportReport.RowError(6, ErrorCode.IMPORT_UNTERMINATED_QUOTE.failure())
+        ), report.errors());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    public void givenJson_whenImport_thenRowsImported() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var file = write("programme.json", """
+                [
+                  {"type": "movie", "title": "A", "genre": "drama", "runtimeInMinutes": 100},
+                  {"type": "room", "name": "R", "rows": 10, "cols": 10, "comment": {"ignored": true}},
+                  {"type": "screening", "movie": "A", "room": "R", "date": "2021-03-15 10:00"},
+                  {"type": "room", "name": "R", "rows": 10, "cols": 10},
+                  {"title": "B"}
+                ]""");
+
+        var report = importService.importFile(file).unwrap();
+
+        assertEquals(new ImportReport(1, 1, 1, List.of(
+                new ImportReport.RowError(4, ErrorCode.ROOM_EXISTS.failure()),
+                new ImportReport.RowError(5, ErrorCode.IMPORT_MISSING_TYPE.failure())
+        )), report);
+    }
+
+    @Test
+    public void givenMalformedJson_whenImport_thenErrAndRolledBack() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var file = write("programme.json", "[{\"type\": \"room\", \"name\": \"R\", \"rows\": 1, \"cols\": 1},");
+
+        var result = importService.importFile(file);
+
+        assertFalse(result.isOk());
+        verify(transactionManager).rollback(any());
+        verify(screeningConflictDetector, never()).add(any());
+        verify(screeningKeyIndex, never()).add(any());
+    }
+
+    @Test
+    public void givenConstraintViolationOnFlush_whenImport_thenErrWithLastRowAndRolledBack() throws IOException {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieRepository.findById("A")).thenReturn(Optional.empty());
+        when(roomRepository.findById("R")).thenReturn(Optional.of(new Room("R", 10, 10)));
+        when(screeningRepository.findIntervalsByRoom(any())).thenReturn(List.of());
+        doThrow(new PersistenceException("constraint violated")).when(entityManager).flush();
+        var file = write("programme.csv",
+                "movie,A,drama,100",
+                "screening,A,R,2021-03-15 10:00");
+
+        var result = importService.importFile(file);
+
+        assertEquals(ErrorCode.IMPORT_WRITE_FAILED.with(file, 2L), result.unwrapErr());
+        verify(transactionManager).rollback(any());
+        verify(screeningConflictDetector, never()).add(any());
+        verify(screeningKeyIndex, never()).add(any());
+        verify(catalogueVersion, never()).bump();
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.training.ticketservice.core.metrics;
+
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.movie.MovieServiceImpl;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import com.epam.training.ticketservice.ui.command.MovieCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MetricsAspectTests {
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MetricsAspect metricsAspect;
+    private MovieService movieService;
+
+    @BeforeEach
+    public void setUp() {
+        metricsAspect = new MetricsAspect(meterRegistry);
+        var repository = proxy(movieRepository);
+        movieService = proxy(new MovieServiceImpl(userService, repository, eventPublisher,
+                new ExpiringCache<>(16, Duration.ofMinutes(1)), new CatalogueVersion()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(metricsAspect);
+        return (T) factory.getProxy();
+    }
+
+    @Test
+    public void givenServiceCall_whenCalled_thenTimerRecorded() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+
+        movieService.createMovie("A", "A", 100);
+        movieService.createMovie("B", "B", 100);
+
+        var timer = meterRegistry.find(MetricsAspect.SERVICE_TIMER)
+                .tag(MetricsAspect.OPERATION_TAG, "MovieService.createMovie")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    public void givenErrResult_whenServiceCalled_thenErrorCountedByCode() {
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
+
+        movieService.createMovie("A", "A", 100);
+
+        var counter = meterRegistry.find(MetricsAspect.ERROR_COUNTER)
+                .tags(MetricsAspect.OPERATION_TAG, "MovieService.createMovie",
+                        MetricsAspect.CODE_TAG, "INSUFFICIENT_PRIVILEGE")
+                .counter();
+        assertNotNull(counter);
+        assertEquals(1, counter.count());
+    }
+
+    @Test
+    public void givenOkResult_whenServiceCalled_thenNoErrorCounted() {
+        when(movieRepository.findById("A")).thenReturn(Optional.of(new Movie("A", "A", 100)));
+
+        movieService.ensureMovieExists("A");
+
+        assertNull(meterRegistry.find(MetricsAspect.ERROR_COUNTER).counter());
+    }
+
+    @Test
+    public void givenCommandCallingRepository_whenCommandRuns_thenRepositoryCallsRecorded() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        var movieCommand = proxy(new MovieCommand(movieService, null));
+
+        movieCommand.createMovie("A", "A", 100);
+
+        var commandTimer = meterRegistry.find(MetricsAspect.COMMAND_TIMER)
+                .tag(MetricsAspect.OPERATION_TAG, "create movie")
+                .timer();
+        var repositoryCalls = meterRegistry.find(MetricsAspect.COMMAND_REPOSITORY_CALLS)
+                .tag(MetricsAspect.OPERATION_TAG, "create movie")
+                .summary();
+        assertNotNull(commandTimer);
+        assertEquals(1, commandTimer.count());
+        assertNotNull(repositoryCalls);
+        // findById and save
+        assertEquals(2, repositoryCalls.totalAmount());
+    }
+}
@@ -1,7 +1,11 @@
 package com.epam.training.ticketservice.core.movie;
 
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieListing;
 import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.user.UserService;
 import com.epam.training.ticketservice.core.user.persistence.User;
@@ -9,8 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +35,17 @@ public class MovieServiceTests {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ExpiringCache<String, Movie> movieCache = new ExpiringCache<>(16, Duration.ofMinutes(1));
+
+    @Spy
+    private CatalogueVersion catalogueVersion = new CatalogueVersion();
+
+    private final long initialVersion = catalogueVersion.current();
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
@@ -39,6 +60,42 @@ public class MovieServiceTests {
         assertEquals(movies, allMovies);
     }
 
+    @Test
+    public void givenNoFilter_whenGetMovies_thenQueryPageSortedByTitle() {
+        var slice = new SliceImpl<>(List.of(new MovieListing("A", "A", 100)));
+        when(movieRepository.findListingsByTitleContainingIgnoreCase("", PageRequest.of(1, 10, Sort.by("title"))))
+                .thenReturn(slice);
+
+        var movies = movieService.getMovies(null, PageRequest.of(1, 10));
+
+        assertEquals(slice, movies);
+    }
+
+    @Test
+    public void givenCachedMovie_whenEnsureMovieExists_thenRepositoryIsNotQueried() {
+        var movie = new Movie("A", "A", 100);
+        when(movieRepository.findById("A")).thenReturn(Optional.of(movie));
+        movieService.ensureMovieExists("A");
+
+        var result = movieService.ensureMovieExists("A");
+
+        assertEquals(movie, result.unwrap());
+        verify(movieRepository, times(1)).findById("A");
+        assertEquals(1, movieCache.stats().hits());
+    }
+
+    @Test
+    public void givenCachedMovie_whenDeleteMovie_thenMovieIsEvictedFromCache() {
+        var movie = new Movie("A", "A", 100);
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User("admin", "admin", User.Role.ADMIN)));
+        when(movieRepository.findById("A")).thenReturn(Optional.of(movie)).thenReturn(Optional.empty());
+        movieService.ensureMovieExists("A");
+
+        movieService.deleteMovie("A");
+
+        assertFalse(movieService.ensureMovieExists("A").isOk());
+    }
+
     @Test
     public void givenMovieExists_whenEnsureMovieExists_thenReturnMovie() {
         var movie = new Movie();
@@ -59,7 +116,7 @@ public class MovieServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Movie not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
@@ -74,18 +131,19 @@ public class MovieServiceTests {
         assertNotNull(result);
         assertTrue(result.isOk());
         assertEquals(movie, result.unwrap());
+        assertEquals(initialVersion + 1, catalogueVersion.current());
+        verify(eventPublisher).publishEvent(new MovieCreatedEvent(movie));
     }
 
     @Test
     public void givenUnprivilegedUser_whenCreateMovie_thenError() {
-        var error = "Insufficient privilege";
-        when(userService.ensurePrivileged()).thenReturn(Result.err(new Error(error)));
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
 
         Result<Movie> result = movieService.createMovie("A", "A", 10);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals(error, result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 
     @Test
@@ -98,7 +156,8 @@ public class MovieServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Movie already exists", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.MOVIE_EXISTS, result.unwrapErr().code());
+        assertEquals(initialVersion, catalogueVersion.current());
     }
 
     @Test
@@ -114,18 +173,33 @@ public class MovieServiceTests {
         assertNotNull(result);
         assertTrue(result.isOk());
         assertEquals(updatedMovie, result.unwrap());
+        verify(eventPublisher).publishEvent(new MovieUpdatedEvent(updatedMovie));
+        verify(catalogueVersion).bump();
+    }
+
+    @Test
+    public void givenCachedMovie_whenUpdateMovie_thenCachedInstanceIsNotModified() {
+        when(movieRepository.findById("A")).thenAnswer(i -> Optional.of(new Movie("A", "A", 10)));
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        var cached = movieService.ensureMovieExists("A").unwrap();
+
+        var updated = movieService.updateMovie("A", "B", 11).unwrap();
+
+        assertEquals(new Movie("A", "B", 11), updated);
+        assertNotSame(cached, updated);
+        assertEquals(new Movie("A", "A", 10), cached);
     }
 
     @Test
     public void givenUserDoesntExist_whenUpdateMovie_thenError() {
-        var error = "Insufficient privilege";
-        when(userService.ensurePrivileged()).thenReturn(Result.err(new Error(error)));
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
 
         Result<Movie> result = movieService.updateMovie("A", "A", 10);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals(error, result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 
     @Test
@@ -150,18 +224,17 @@ public class MovieServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Movie not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
     public void givenUserDoesntExist_whenDeleteMovie_thenError() {
-        var error = "Insufficient privilege";
-        when(userService.ensurePrivileged()).thenReturn(Result.err(new Error(error)));
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
 
         Result<Movie> result = movieService.deleteMovie("A");
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals(error, result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 }
@@ -0,0 +1,221 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePrice;
+import com.epam.training.ticketservice.core.pricing.persistence.BasePriceRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponent;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceComponentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.user.UserService;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingServiceTests {
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private ScreeningService screeningService;
+
+    @Mock
+    private BasePriceRepository basePriceRepository;
+
+    @Mock
+    private PriceComponentRepository priceComponentRepository;
+
+    @Mock
+    private PriceAttachmentRepository priceAttachmentRepository;
+
+    @InjectMocks
+    private PricingServiceImpl pricingService;
+
+    private final User admin = new User("admin", "admin", User.Role.ADMIN);
+    private final Movie movie = new Movie("A", "A", 100);
+    private final Room room = new Room("R", 10, 10);
+    private final LocalDateTime date = LocalDateTime.of(2021, 3, 15, 10, 45);
+    private final Screening screening = new Screening(movie, room, date);
+    private final PriceComponent component = new PriceComponent("fee", 100);
+
+    @Test
+    public void givenNoStoredBasePrice_whenGetPricePlan_thenDefaultBasePriceIsUsed() {
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.empty());
+        when(priceAttachmentRepository.findApplicable("A", "R", 0)).thenReturn(List.of());
+
+        var plan = pricingService.getPricePlan(screening);
+
+        assertEquals(PricePlan.of(1500, Map.of()), plan);
+        assertEquals(3000, plan.priceFor(2));
+    }
+
+    @Test
+    public void givenAttachedComponents_whenGetPricePlan_thenComponentsAreAdded() {
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.of(new BasePrice(1000)));
+        when(priceAttachmentRepository.findApplicable("A", "R", 0)).thenReturn(List.of(
+                new PriceAttachment(component, PriceAttachment.Target.MOVIE, "A"),
+                new PriceAttachment(new PriceComponent("vip", 250), PriceAttachment.Target.ROOM, "R")));
+
+        var plan = pricingService.getPricePlan(screening);
+
+        assertEquals(Map.of("fee", 100, "vip", 250), plan.components());
+        assertEquals(1350, plan.pricePerSeat());
+    }
+
+    @Test
+    public void givenCompiledPlan_whenGetPricePlanAgain_thenRepositoriesAreNotQueried() {
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.empty());
+        when(priceAttachmentRepository.findApplicable("A", "R", 0)).thenReturn(List.of());
+        pricingService.getPricePlan(screening);
+
+        pricingService.getPricePlan(screening);
+
+        verify(basePriceRepository, times(1)).findById(BasePrice.ID);
+        verify(priceAttachmentRepository, times(1)).findApplicable("A", "R", 0);
+    }
+
+    @Test
+    public void givenCompiledPlan_whenUpdateBasePrice_thenPlanIsRecompiled() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.empty());
+        when(priceAttachmentRepository.findApplicable("A", "R", 0)).thenReturn(List.of());
+        pricingService.getPricePlan(screening);
+
+        var result = pricingService.updateBasePrice(1000);
+
+        assertTrue(result.isOk());
+        verify(basePriceRepository).save(new BasePrice(1000));
+        assertEquals(1000, pricingService.getPricePlan(screening).pricePerSeat());
+    }
+
+    @Test
+    public void givenUpdateDuringLoad_whenGetPricePlan_thenLoadDoesNotOverwriteTheUpdate() throws Exception {
+        var otherScreening = new Screening(movie, room, date.plusDays(1));
+        otherScreening.setId(1);
+        var updated = new CountDownLatch(1);
+        var updater = new Thread(() -> {
+            pricingService.updateBasePrice(2000);
+            updated.countDown();
+        });
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(basePriceRepository.findById(BasePrice.ID)).thenAnswer(i -> {
+            updater.start();
+            // The update has to wait for the load, it can not slip in between reading and storing the price
+            assertFalse(updated.await(200, TimeUnit.MILLISECONDS));
+            return Optional.empty();
+        });
+        when(priceAttachmentRepository.findApplicable(eq("A"), eq("R"), anyInt())).thenReturn(List.of());
+
+        pricingService.getPricePlan(screening);
+        updater.join();
+
+        assertEquals(PricePlan.of(2000, Map.of()), pricingService.getPricePlan(otherScreening));
+    }
+
+    @Test
+    public void givenCompiledPlan_whenAttachToMovie_thenPlanIsRecompiled() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
+        when(priceComponentRepository.findById("fee")).thenReturn(Optional.of(component));
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.empty());
+        when(priceAttachmentRepository.findApplicable("A", "R", 0))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new PriceAttachment(component, PriceAttachment.Target.MOVIE, "A")));
+        pricingService.getPricePlan(screening);
+
+        var result = pricingService.attachToMovie("fee", "A");
+
+        assertTrue(result.isOk());
+        verify(priceAttachmentRepository).save(new PriceAttachment(component, PriceAttachment.Target.MOVIE, "A"));
+        assertEquals(1600, pricingService.getPricePlan(screening).pricePerSeat());
+    }
+
+    @Test
+    public void givenUnknownComponent_whenAttachToRoom_thenError() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(roomService.ensureRoomExists("R")).thenReturn(Result.ok(room));
+        when(priceComponentRepository.findById("fee")).thenReturn(Optional.empty());
+
+        var result = pricingService.attachToRoom("fee", "R");
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.PRICE_COMPONENT_NOT_FOUND, result.unwrapErr().code());
+        verify(priceAttachmentRepository, never()).save(any());
+    }
+
+    @Test
+    public void givenAttachedComponent_whenAttachToScreeningAgain_thenError() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(screeningService.ensureScreeningExists("A", "R", date)).thenReturn(Result.ok(screening));
+        when(priceComponentRepository.findById("fee")).thenReturn(Optional.of(component));
+        when(priceAttachmentRepository.existsByComponentAndTargetAndTargetKey(
+                component, PriceAttachment.Target.SCREENING, "0")).thenReturn(true);
+
+        var result = pricingService.attachToScreening("fee", "A", "R", date);
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.PRICE_COMPONENT_ALREADY_ATTACHED, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenExistingComponent_whenCreatePriceComponent_thenError() {
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(admin));
+        when(priceComponentRepository.existsById("fee")).thenReturn(true);
+
+        var result = pricingService.createPriceComponent("fee", 100);
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.PRICE_COMPONENT_EXISTS, result.unwrapErr().code());
+        verify(priceComponentRepository, never()).save(any());
+    }
+
+    @Test
+    public void givenUnprivilegedUser_whenUpdateBasePrice_thenError() {
+        when(userService.ensurePrivileged()).thenReturn(Result.err(ErrorCode.INSUFFICIENT_PRIVILEGE));
+
+        var result = pricingService.updateBasePrice(1000);
+
+        assertFalse(result.isOk());
+        verify(basePriceRepository, never()).save(any());
+    }
+
+    @Test
+    public void givenScreening_whenCalculatePrice_thenPriceIsPerSeat() {
+        when(screeningService.ensureScreeningExists("A", "R", date)).thenReturn(Result.ok(screening));
+        when(basePriceRepository.findById(BasePrice.ID)).thenReturn(Optional.empty());
+        when(priceAttachmentRepository.findApplicable("A", "R", 0)).thenReturn(List.of());
+
+        var result = pricingService.calculatePrice("A", "R", date, List.of(new Seat(1, 1), new Seat(1, 2)));
+
+        assertEquals(3000, result.unwrap());
+    }
+}
@@ -1,7 +1,11 @@
 package com.epam.training.ticketservice.core.room;
 
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.room.persistence.RoomListing;
 import com.epam.training.ticketservice.core.room.persistence.RoomRepository;
 import com.epam.training.ticketservice.core.user.UserService;
 import com.epam.training.ticketservice.core.user.persistence.User;
@@ -9,14 +13,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class RoomServiceTests {
@@ -26,6 +36,14 @@ public class RoomServiceTests {
     @Mock
     private UserService userService;
 
+    @Spy
+    private ExpiringCache<String, Room> roomCache = new ExpiringCache<>(16, Duration.ofMinutes(1));
+
+    @Spy
+    private CatalogueVersion catalogueVersion = new CatalogueVersion();
+
+    private final long initialVersion = catalogueVersion.current();
+
     @InjectMocks
     private RoomServiceImpl roomService;
 
@@ -40,6 +58,32 @@ public class RoomServiceTests {
         assertEquals(rooms, allRooms);
     }
 
+    @Test
+    public void givenNameFilter_whenGetRooms_thenQueryPageSortedByName() {
+        var slice = new SliceImpl<>(List.of(new RoomListing("Alpha", 1, 1)));
+        when(roomRepository.findListingsByNameContainingIgnoreCase("al", PageRequest.of(0, 10, Sort.by("name"))))
+                .thenReturn(slice);
+
+        var rooms = roomService.getRooms("al", PageRequest.of(0, 10));
+
+        assertEquals(slice, rooms);
+    }
+
+    @Test
+    public void givenCachedRoom_whenUpdateRoom_thenRoomIsReloaded() {
+        var room = new Room("A", 1, 1);
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User("admin", "admin", User.Role.ADMIN)));
+        when(roomRepository.findById("A")).thenReturn(Optional.of(room));
+        when(roomRepository.save(room)).thenReturn(room);
+        roomService.ensureRoomExists("A");
+        roomService.ensureRoomExists("A");
+
+        roomService.updateRoom("A", 2, 2);
+        roomService.ensureRoomExists("A");
+
+        verify(roomRepository, times(3)).findById("A");
+    }
+
     @Test
     public void givenRoomExists_whenEnsureRoomExists_thenReturnRoom() {
         var room = new Room("A", 1, 1);
@@ -60,7 +104,7 @@ public class RoomServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Room not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ROOM_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
@@ -86,19 +130,19 @@ public class RoomServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Room already exists", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ROOM_EXISTS, result.unwrapErr().code());
     }
 
     @Test
     public void givenUnprivilegedUser_whenCreateRoom_thenReturnError() {
-        var err = new Error("Insufficient privilege");
+        var err = ErrorCode.INSUFFICIENT_PRIVILEGE;
         when(userService.ensurePrivileged()).thenReturn(Result.err(err));
 
         Result<Room> result = roomService.createRoom("A", 1, 1);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Insufficient privilege", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 
     @Test
@@ -125,19 +169,19 @@ public class RoomServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Room not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ROOM_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
     public void givenUnprivilegedUser_whenUpdateRoom_thenReturnError() {
-        var err = new Error("Insufficient privilege");
+        var err = ErrorCode.INSUFFICIENT_PRIVILEGE;
         when(userService.ensurePrivileged()).thenReturn(Result.err(err));
 
         Result<Room> result = roomService.updateRoom("A", 1, 1);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Insufficient privilege", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 
     @Test
@@ -151,6 +195,7 @@ public class RoomServiceTests {
         assertNotNull(result);
         assertTrue(result.isOk());
         assertEquals(room, result.unwrap());
+        assertEquals(initialVersion + 1, catalogueVersion.current());
     }
 
     @Test
@@ -162,18 +207,19 @@ public class RoomServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Room not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ROOM_NOT_FOUND, result.unwrapErr().code());
+        verify(catalogueVersion, never()).bump();
     }
 
     @Test
     public void givenUnprivilegedUser_whenDeleteRoom_thenReturnError() {
-        var err = new Error("Insufficient privilege");
+        var err = ErrorCode.INSUFFICIENT_PRIVILEGE;
         when(userService.ensurePrivileged()).thenReturn(Result.err(err));
 
         Result<Room> result = roomService.deleteRoom("A");
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Insufficient privilege", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 }
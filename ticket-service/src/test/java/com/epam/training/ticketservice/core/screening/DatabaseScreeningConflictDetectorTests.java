@@ -0,0 +1,135 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieCreatedEvent;
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.movie.persistence.MovieRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabaseScreeningConflictDetectorTests {
+    private static final int BREAK = 10;
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @InjectMocks
+    private DatabaseScreeningConflictDetector screeningConflictDetector;
+
+    private final Movie movie = new Movie("A", "A", 100);
+    private final Room room = new Room("A", 1, 1);
+
+    private static LocalDateTime minute(long minute) {
+        return DateTimes.fromEpochMinute(minute);
+    }
+
+    @Test
+    public void givenCandidateWindow_whenFindConflict_thenQueriesOnlyThatWindow() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(300);
+        when(screeningRepository.findInRoomIntersecting(any(), any(), any(), any())).thenReturn(List.of());
+
+        var conflict = screeningConflictDetector.findConflict(room, minute(1000), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.NONE, conflict);
+        verify(screeningRepository).findInRoomIntersecting(room, minute(690), minute(1110), minute(990));
+        verify(screeningRepository, never()).findIntervalsByRoom(any());
+    }
+
+    @Test
+    public void givenOverlappingScreening_whenFindConflict_thenOverlap() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        when(screeningRepository.findInRoomIntersecting(any(), any(), any(), any()))
+                .thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningConflictDetector.findConflict(room, minute(1050), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenScreeningEndingRightBefore_whenFindConflict_thenBreak() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        when(screeningRepository.findInRoomIntersecting(any(), any(), any(), any()))
+                .thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningConflictDetector.findConflict(room, minute(1105), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.BREAK, conflict);
+    }
+
+    @Test
+    public void givenLoadedBound_whenFindConflictAgain_thenLongestRuntimeIsNotQueriedAgain() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        screeningConflictDetector.findConflict(room, minute(1000), 100, BREAK);
+
+        screeningConflictDetector.findConflict(room, minute(5000), 100, BREAK);
+
+        verify(movieRepository, times(1)).findLongestRuntimeInMinutes();
+        verify(screeningRepository).findInRoomIntersecting(room, minute(4890), minute(5110), minute(4990));
+    }
+
+    @Test
+    public void givenLongerMovieCreated_whenFindConflict_thenWindowCoversIt() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        screeningConflictDetector.findConflict(room, minute(1000), 100, BREAK);
+
+        screeningConflictDetector.onMovieCreated(new MovieCreatedEvent(new Movie("B", "B", 300)));
+        screeningConflictDetector.findConflict(room, minute(5000), 100, BREAK);
+
+        verify(screeningRepository).findInRoomIntersecting(room, minute(4690), minute(5110), minute(4990));
+    }
+
+    @Test
+    public void givenMovieShortened_whenFindConflict_thenWindowKeepsLongerBound() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(300);
+        screeningConflictDetector.findConflict(room, minute(1000), 100, BREAK);
+
+        screeningConflictDetector.onMovieUpdated(new MovieUpdatedEvent(new Movie("B", "B", 50)));
+        screeningConflictDetector.findConflict(room, minute(5000), 100, BREAK);
+
+        verify(screeningRepository).findInRoomIntersecting(room, minute(4690), minute(5110), minute(4990));
+    }
+
+    @Test
+    public void givenOverlappingScreening_whenReserve_thenErrorAndNothingInserted() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        when(screeningRepository.findInRoomIntersecting(any(), any(), any(), any()))
+                .thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var result = screeningConflictDetector.reserve(room, minute(1050), 100, BREAK, () -> fail("Inserted"));
+
+        assertEquals(ErrorCode.SCREENING_OVERLAPS, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenFreeSlot_whenReserve_thenInsertedAndBoundRaised() {
+        when(movieRepository.findLongestRuntimeInMinutes()).thenReturn(100);
+        when(screeningRepository.findInRoomIntersecting(any(), any(), any(), any())).thenReturn(List.of());
+        var screening = new Screening(new Movie("B", "B", 400), room, minute(1000));
+
+        var result = screeningConflictDetector.reserve(room, minute(1000), 400, BREAK, () -> screening);
+
+        assertEquals(screening, result.unwrap());
+        screeningConflictDetector.findConflict(room, minute(5000), 100, BREAK);
+        verify(screeningRepository).findInRoomIntersecting(room, minute(4590), minute(5110), minute(4990));
+    }
+}
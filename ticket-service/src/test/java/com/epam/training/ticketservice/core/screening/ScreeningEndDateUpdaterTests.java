@@ -0,0 +1,76 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ScreeningEndDateUpdaterTests {
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @InjectMocks
+    private ScreeningEndDateUpdater screeningEndDateUpdater;
+
+    @Test
+    public void givenUpdatedMovie_whenMovieUpdated_thenRefreshScreeningEndDates() {
+        var movie = new Movie("A", "A", 10);
+        var screening = new Screening(movie, new Room("A", 1, 1), LocalDateTime.of(2021, 3, 15, 10, 0));
+        movie.setRuntimeInMinutes(20);
+        when(screeningRepository.findByMovie(movie)).thenReturn(List.of(screening));
+
+        screeningEndDateUpdater.onMovieUpdated(new MovieUpdatedEvent(movie));
+
+        assertEquals(LocalDateTime.of(2021, 3, 15, 10, 20), screening.getEndDate());
+        verify(screeningRepository).saveAll(List.of(screening));
+    }
+
+    @Test
+    public void givenIntervalIndexRegisteredFirst_whenMovieUpdated_thenEndDatesAreStoredBeforeIntervalsAreDropped() {
+        var movie = new Movie("A", "A", 10);
+        var room = new Room("A", 1, 1);
+        var calls = new ArrayList<String>();
+        when(screeningRepository.findIntervalsByRoom(room)).thenAnswer(invocation -> {
+            calls.add("load intervals");
+            return List.of();
+        });
+        when(screeningRepository.saveAll(any())).thenAnswer(invocation -> {
+            calls.add("save end dates");
+            return List.of();
+        });
+
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(ScreeningRepository.class, () -> screeningRepository);
+            context.registerBean(ScreeningIntervalIndex.class);
+            context.registerBean(ScreeningEndDateUpdater.class);
+            context.refresh();
+            var index = context.getBean(ScreeningIntervalIndex.class);
+            index.findConflict(room, LocalDateTime.of(2021, 3, 15, 10, 0), 10, 10);
+            // A lookup made while the listeners run reloads the room as soon as its intervals were dropped
+            when(screeningRepository.findByMovie(movie)).thenAnswer(invocation -> {
+                index.findConflict(room, LocalDateTime.of(2021, 3, 15, 10, 0), 10, 10);
+                return List.of();
+            });
+
+            context.publishEvent(new MovieUpdatedEvent(movie));
+            index.findConflict(room, LocalDateTime.of(2021, 3, 15, 10, 0), 10, 10);
+        }
+
+        assertEquals(List.of("load intervals", "save end dates", "load intervals"), calls);
+    }
+}
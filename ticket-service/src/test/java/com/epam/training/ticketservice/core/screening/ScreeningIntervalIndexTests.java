@@ -0,0 +1,182 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.MovieUpdatedEvent;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.time.DateTimes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ScreeningIntervalIndexTests {
+    private static final int BREAK = 10;
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @InjectMocks
+    private ScreeningIntervalIndex screeningIntervalIndex;
+
+    private final Movie movie = new Movie("A", "A", 100);
+    private final Room room = new Room("A", 1, 1);
+
+    private static LocalDateTime minute(long minute) {
+        return DateTimes.fromEpochMinute(minute);
+    }
+
+    @Test
+    public void givenEmptyRoom_whenFindConflict_thenNone() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(0), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.NONE, conflict);
+    }
+
+    @Test
+    public void givenScreening_whenFindConflictInside_thenOverlap() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1050), 10, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenScreening_whenFindConflictSpanningIt_thenOverlap() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(900), 500, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenScreening_whenFindConflictInBreakAfter_thenBreak() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1105), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.BREAK, conflict);
+    }
+
+    @Test
+    public void givenScreening_whenFindConflictEndingInBreakBefore_thenBreak() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(895), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.BREAK, conflict);
+    }
+
+    @Test
+    public void givenScreening_whenFindConflictAfterBreak_thenNone() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1111), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.NONE, conflict);
+    }
+
+    @Test
+    public void givenLongScreeningLongBefore_whenFindConflict_thenOverlap() {
+        var longMovie = new Movie("B", "B", 5000);
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(
+                ScreeningInterval.of(new Screening(longMovie, room, minute(0))),
+                ScreeningInterval.of(new Screening(movie, room, minute(10_000)))));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(4000), 10, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenRoomLoaded_whenFindConflictAgain_thenRoomIsNotReloaded() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+
+        screeningIntervalIndex.findConflict(room, minute(0), 100, BREAK);
+        screeningIntervalIndex.findConflict(room, minute(500), 100, BREAK);
+
+        verify(screeningRepository, times(1)).findIntervalsByRoom(room);
+    }
+
+    @Test
+    public void givenAddedScreening_whenFindConflict_thenOverlap() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+        screeningIntervalIndex.add(new Screening(movie, room, minute(1000)));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1000), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenRemovedScreening_whenFindConflict_thenNone() {
+        var screening = new Screening(movie, room, minute(1000));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(screening)));
+        screeningIntervalIndex.findConflict(room, minute(0), 10, BREAK);
+        screeningIntervalIndex.remove(screening);
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1000), 100, BREAK);
+
+        assertEquals(ScreeningConflictDetector.Conflict.NONE, conflict);
+    }
+
+    @Test
+    public void givenMovieUpdated_whenFindConflict_thenRoomIsReloaded() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+        screeningIntervalIndex.findConflict(room, minute(0), 100, BREAK);
+
+        screeningIntervalIndex.onMovieUpdated(new MovieUpdatedEvent(movie));
+        screeningIntervalIndex.findConflict(room, minute(0), 100, BREAK);
+
+        verify(screeningRepository, times(2)).findIntervalsByRoom(room);
+    }
+
+    @Test
+    public void givenOverlappingScreening_whenReserve_thenErrorAndNothingInserted() {
+        when(screeningRepository.findIntervalsByRoom(room))
+                .thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, minute(1000)))));
+
+        var result = screeningIntervalIndex.reserve(room, minute(1050), 100, BREAK, () -> fail("Inserted"));
+
+        assertEquals(ErrorCode.SCREENING_OVERLAPS, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenReservedScreening_whenFindConflict_thenOverlap() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+        var screening = new Screening(movie, room, minute(1000));
+
+        assertEquals(screening, screeningIntervalIndex.reserve(room, minute(1000), 100, BREAK, () -> screening).unwrap());
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1050), 10, BREAK);
+        assertEquals(ScreeningConflictDetector.Conflict.OVERLAP, conflict);
+    }
+
+    @Test
+    public void givenFailingInsert_whenReserve_thenSlotStaysFree() {
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> screeningIntervalIndex.reserve(room, minute(1000), 100, BREAK,
+                () -> {
+                    throw new IllegalStateException();
+                }));
+
+        var conflict = screeningIntervalIndex.findConflict(room, minute(1000), 100, BREAK);
+        assertEquals(ScreeningConflictDetector.Conflict.NONE, conflict);
+    }
+}
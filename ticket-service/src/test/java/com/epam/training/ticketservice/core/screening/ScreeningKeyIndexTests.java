@@ -0,0 +1,101 @@
+package com.epam.training.ticketservice.core.screening;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ScreeningKeyIndexTests {
+    private static final LocalDateTime DATE = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @InjectMocks
+    private ScreeningKeyIndex screeningKeyIndex;
+
+    private final Movie movie = new Movie("A", "A", 100);
+    private final Room room = new Room("R", 1, 1);
+
+    private static Screening screening(int id, Movie movie, Room room, LocalDateTime date) {
+        var screening = new Screening(movie, room, date);
+        screening.setId(id);
+        return screening;
+    }
+
+    private static ScreeningSummary summaryOf(Screening screening) {
+        return new ScreeningSummary() {
+            public int getId() {
+                return screening.getId();
+            }
+
+            public String getMovieTitle() {
+                return screening.getMovie().getTitle();
+            }
+
+            public String getRoomName() {
+                return screening.getRoom().getName();
+            }
+
+            public LocalDateTime getDate() {
+                return screening.getDate();
+            }
+        };
+    }
+
+    @Test
+    public void givenStoredScreening_whenFind_thenId() {
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening(3, movie, room, DATE))));
+
+        assertEquals(Optional.of(3), screeningKeyIndex.find("A", "R", DATE));
+    }
+
+    @Test
+    public void givenStoredScreening_whenFindOtherStartOrRoom_thenEmpty() {
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening(3, movie, room, DATE))));
+
+        assertEquals(Optional.empty(), screeningKeyIndex.find("A", "R", DATE.plusMinutes(1)));
+        assertEquals(Optional.empty(), screeningKeyIndex.find("A", "S", DATE));
+    }
+
+    @Test
+    public void givenIndexLoaded_whenFindAgain_thenScreeningsAreNotReloaded() {
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of());
+
+        screeningKeyIndex.find("A", "R", DATE);
+        screeningKeyIndex.find("B", "R", DATE);
+
+        verify(screeningRepository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    public void givenAddedScreening_whenFind_thenId() {
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of());
+        screeningKeyIndex.add(screening(5, movie, room, DATE));
+
+        assertEquals(Optional.of(5), screeningKeyIndex.find("A", "R", DATE));
+    }
+
+    @Test
+    public void givenRemovedScreening_whenFind_thenEmpty() {
+        var screening = screening(3, movie, room, DATE);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening)));
+        screeningKeyIndex.remove(screening);
+
+        assertEquals(Optional.empty(), screeningKeyIndex.find("A", "R", DATE));
+    }
+}
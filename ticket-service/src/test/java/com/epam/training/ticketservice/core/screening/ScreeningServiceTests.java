@@ -1,26 +1,45 @@
 package com.epam.training.ticketservice.core.screening;
 
+import com.epam.training.ticketservice.core.booking.BookingGroupCommit;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.booking.persistence.BookingRepository;
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
 import com.epam.training.ticketservice.core.movie.MovieService;
 import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachment;
+import com.epam.training.ticketservice.core.pricing.persistence.PriceAttachmentRepository;
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.room.RoomService;
 import com.epam.training.ticketservice.core.room.persistence.Room;
 import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningListing;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningInterval;
 import com.epam.training.ticketservice.core.screening.persistence.ScreeningRepository;
+import com.epam.training.ticketservice.core.screening.persistence.ScreeningSummary;
 import com.epam.training.ticketservice.core.user.UserService;
 import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class ScreeningServiceTests {
@@ -36,9 +55,32 @@ public class ScreeningServiceTests {
     @Mock
     private ScreeningRepository screeningRepository;
 
-    @InjectMocks
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingGroupCommit bookingGroupCommit;
+
+    @Mock
+    private SeatMapRegistry seatMapRegistry;
+
+    @Mock
+    private PriceAttachmentRepository priceAttachmentRepository;
+
+    private final CatalogueVersion catalogueVersion = new CatalogueVersion();
+
+    private final long initialVersion = catalogueVersion.current();
+
     private ScreeningServiceImpl screeningService;
 
+    @BeforeEach
+    void setUp() {
+        screeningService = new ScreeningServiceImpl(userService, screeningRepository, movieService, roomService,
+                new ScreeningIntervalIndex(screeningRepository), new ScreeningKeyIndex(screeningRepository),
+                new ScreeningWrites(),
+                catalogueVersion, bookingRepository, bookingGroupCommit, seatMapRegistry, priceAttachmentRepository);
+    }
+
     @Test
     public void givenScreenings_whenGetAllScreenings_thenReturnAllScreenings() {
         var screenings = List.of(new Screening());
@@ -49,13 +91,44 @@ public class ScreeningServiceTests {
         assertNotNull(allScreenings);
     }
 
+    @Test
+    public void givenFilters_whenGetScreenings_thenQueryPageSortedById() {
+        var slice = new SliceImpl<>(List.of(new ScreeningListing("A", "A", 100, "B", LocalDateTime.now())));
+        when(screeningRepository.findListings("A", null, PageRequest.of(2, 5, Sort.by("id")))).thenReturn(slice);
+
+        var screenings = screeningService.getScreenings("A", null, PageRequest.of(2, 5));
+
+        assertEquals(slice, screenings);
+    }
+
+    private static ScreeningSummary summaryOf(Screening screening) {
+        return new ScreeningSummary() {
+            public int getId() {
+                return screening.getId();
+            }
+
+            public String getMovieTitle() {
+                return screening.getMovie().getTitle();
+            }
+
+            public String getRoomName() {
+                return screening.getRoom().getName();
+            }
+
+            public LocalDateTime getDate() {
+                return screening.getDate();
+            }
+        };
+    }
+
     @Test
     public void givenScreening_whenEnsureScreening_thenReturnScreening() {
-        var screening = new Screening();
-        var movie = new Movie();
-        var room = new Room();
-        var date = new Date();
-        when(screeningRepository.findByRoomAndMovieAndDate(room, movie, date)).thenReturn(Optional.of(screening));
+        var movie = new Movie("A", "A", 100);
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        var screening = new Screening(movie, room, date);
+        screening.setId(7);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening)));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
 
@@ -66,12 +139,35 @@ public class ScreeningServiceTests {
         assertEquals(screening, result.unwrap());
     }
 
+    @Test
+    public void givenCreatedScreening_whenEnsureScreening_thenResolvedWithoutReloading() {
+        var movie = new Movie("A", "A", 10);
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 0);
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
+        when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of());
+        when(screeningRepository.save(any())).thenAnswer(invocation -> {
+            Screening saved = invocation.getArgument(0);
+            saved.setId(3);
+            return saved;
+        });
+        screeningService.createScreening("A", "A", date);
+
+        Result<Screening> result = screeningService.ensureScreeningExists("A", "A", date);
+
+        assertTrue(result.isOk());
+        assertEquals(3, result.unwrap().getId());
+        verify(screeningRepository, times(1)).findAllSummaries();
+    }
+
     @Test
     public void givenScreeningDoesntExist_whenEnsureScreening_thenReturnError() {
         var movie = new Movie();
         var room = new Room();
-        var date = new Date();
-        when(screeningRepository.findByRoomAndMovieAndDate(room, movie, date)).thenReturn(Optional.empty());
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of());
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
 
@@ -79,27 +175,27 @@ public class ScreeningServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Screening not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.SCREENING_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
     public void givenMovieDoesntExist_whenEnsureScreening_thenReturnError() {
-        var err = new Error("Movie not found");
-        var date = new Date();
+        var err = ErrorCode.MOVIE_NOT_FOUND;
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
         when(movieService.ensureMovieExists("A")).thenReturn(Result.err(err));
 
         Result<Screening> result = screeningService.ensureScreeningExists("A", "A", date);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Movie not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.MOVIE_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
     public void givenRoomDoesntExist_whenEnsureScreening_thenReturnError() {
-        var err = new Error("Room not found");
+        var err = ErrorCode.ROOM_NOT_FOUND;
         var movie = new Movie();
-        var date = new Date();
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.err(err));
 
@@ -107,91 +203,134 @@ public class ScreeningServiceTests {
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("Room not found", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ROOM_NOT_FOUND, result.unwrapErr().code());
     }
 
     @Test
     public void givenNoConflictingScreening_whenCreateScreening_thenCreateScreening() {
         var movie = new Movie();
-        var room = new Room();
-        var date = new Date();
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
         var screening = new Screening(movie, room, date);
         when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
         when(screeningRepository.save(screening)).thenReturn(screening);
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of());
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
 
         Result<Screening> result = screeningService.createScreening("A", "A", date);
 
         assertNotNull(result);
         assertTrue(result.isOk());
         assertEquals(screening, result.unwrap());
+        assertEquals(initialVersion + 1, catalogueVersion.current());
     }
 
     @Test
     public void givenConflictingScreening_whenCreateScreening_thenError() {
         var movie = new Movie();
-        var room = new Room();
-        var date = new Date();
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
         var screening = new Screening(movie, room, date);
         when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(screening));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(screening)));
 
         Result<Screening> result = screeningService.createScreening("A", "A", date);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("There is an overlapping screening", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.SCREENING_OVERLAPS, result.unwrapErr().code());
+        assertEquals(initialVersion, catalogueVersion.current());
     }
 
     @Test
     public void givenConflictingBreakScreeningBefore_whenCreateScreening_thenError() {
         var movie = new Movie("A", "A", 10);
-        var room = new Room();
-        var date = new Date(0);
-        var dateBreak = new Date(11 * 1000 * 60);
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 0);
+        var dateBreak = LocalDateTime.of(2021, 3, 15, 10, 11);
         when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(new Screening(movie, room, date)));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, date))));
 
         Result<Screening> result = screeningService.createScreening("A", "A", dateBreak);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("This would start in the break period after another screening in this room",
-                result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.SCREENING_IN_BREAK, result.unwrapErr().code());
     }
 
     @Test
     public void givenConflictingBreakScreeningAfter_whenCreateScreening_thenError() {
         var movie = new Movie("A", "A", 10);
-        var room = new Room();
-        var date = new Date(0);
-        var dateBreak = new Date(11 * 1000 * 60);
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 0);
+        var dateBreak = LocalDateTime.of(2021, 3, 15, 10, 11);
         when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(new Screening(movie, room, dateBreak)));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of(ScreeningInterval.of(new Screening(movie, room, dateBreak))));
 
         Result<Screening> result = screeningService.createScreening("A", "A", date);
 
         assertNotNull(result);
         assertFalse(result.isOk());
-        assertEquals("This would start in the break period after another screening in this room",
-                result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.SCREENING_IN_BREAK, result.unwrapErr().code());
+    }
+
+    @Test
+    public void givenConcurrentCreatesForTheSameSlot_whenCreateScreening_thenOnlyOneIsSaved() throws Exception {
+        var movie = new Movie("A", "A", 100);
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
+        when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
+        when(screeningRepository.findIntervalsByRoom(room)).thenReturn(List.of());
+        var saved = new AtomicInteger();
+        when(screeningRepository.save(any())).thenAnswer(invocation -> {
+            // Gives the other creates time to run their check while this one is still saving
+            Thread.sleep(5);
+            Screening screening = invocation.getArgument(0);
+            screening.setId(saved.incrementAndGet());
+            return screening;
+        });
+        int creates = 8;
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(creates);
+        try {
+            var results = new ArrayList<Future<Result<Screening>>>();
+            for (int i = 0; i < creates; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return screeningService.createScreening("A", "A", date.plusMinutes(results.size()));
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (var result : results) {
+                if (result.get(10, TimeUnit.SECONDS).isOk()) {
+                    created++;
+                }
+            }
+            assertEquals(1, created);
+            assertEquals(1, saved.get());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
     public void givenScreening_whenDeleteScreening_thenDeleteScreening() {
-        var screening = new Screening();
         var movie = new Movie();
-        var room = new Room();
-        var date = new Date();
-        when(screeningRepository.findByRoomAndMovieAndDate(room, movie, date)).thenReturn(Optional.of(screening));
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        var screening = new Screening(movie, room, date);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening)));
         when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
         when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
         when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
@@ -201,5 +340,48 @@ public class ScreeningServiceTests {
         assertNotNull(result);
         assertTrue(result.isOk());
         assertEquals(screening, result.unwrap());
+        verify(screeningRepository).delete(screening);
+        verify(seatMapRegistry).evict(screening);
+        verify(priceAttachmentRepository).deleteByTargetAndTargetKey(PriceAttachment.Target.SCREENING, "0");
+    }
+
+    @Test
+    public void givenBookedScreening_whenDeleteScreening_thenErrorAndScreeningKept() {
+        var movie = new Movie();
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        var screening = new Screening(movie, room, date);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening)));
+        when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
+        when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        when(bookingRepository.existsByScreening(screening)).thenReturn(true);
+
+        Result<Screening> result = screeningService.deleteScreening("A", "A", date);
+
+        assertEquals(ErrorCode.SCREENING_HAS_BOOKINGS, result.unwrapErr().code());
+        verify(bookingGroupCommit).flush();
+        verify(screeningRepository, never()).delete(any());
+        verifyNoInteractions(seatMapRegistry, priceAttachmentRepository);
+        assertTrue(screeningService.ensureScreeningExists("A", "A", date).isOk());
+        assertEquals(initialVersion, catalogueVersion.current());
+    }
+
+    @Test
+    public void givenBookingAddedAfterTheCheck_whenDeleteScreening_thenError() {
+        var movie = new Movie();
+        var room = new Room("A", 1, 1);
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        var screening = new Screening(movie, room, date);
+        when(screeningRepository.findAllSummaries()).thenReturn(List.of(summaryOf(screening)));
+        when(movieService.ensureMovieExists("A")).thenReturn(Result.ok(movie));
+        when(roomService.ensureRoomExists("A")).thenReturn(Result.ok(room));
+        when(userService.ensurePrivileged()).thenReturn(Result.ok(new User()));
+        doThrow(new DataIntegrityViolationException("fk_booking_screening")).when(screeningRepository).delete(screening);
+
+        Result<Screening> result = screeningService.deleteScreening("A", "A", date);
+
+        assertEquals(ErrorCode.SCREENING_HAS_BOOKINGS, result.unwrapErr().code());
+        verifyNoInteractions(seatMapRegistry, priceAttachmentRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.epam.training.ticketservice.core.screening.persistence;
+
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ScreeningRepositoryTests {
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2021, 3, 15, 10, 0);
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int created;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Every screening gets its own movie and room, the worst case for per-row association loading
+    private void givenScreenings(int count) {
+        for (int i = created; i < created + count; i++) {
+            var movie = entityManager.persist(new Movie("Movie " + i, "drama", 100));
+            var room = entityManager.persist(new Room("Room " + i, 10, 10));
+            entityManager.persist(new Screening(movie, room, FIRST_DAY.plusDays(i)));
+        }
+        created += count;
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private long statementsToList() {
+        statistics.clear();
+        var screenings = screeningRepository.findListings(null, null, PageRequest.of(0, 100)).getContent();
+        screenings.forEach(ScreeningListing::toString);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    public void givenFewAndManyScreenings_whenListed_thenStatementCountIsTheSame() {
+        givenScreenings(2);
+        long fewStatements = statementsToList();
+
+        givenScreenings(20);
+        long manyStatements = statementsToList();
+
+        assertEquals(1, fewStatements);
+        assertEquals(fewStatements, manyStatements);
+    }
+
+    @Test
+    public void givenScreenings_whenFindListings_thenRowsAreNotManagedEntities() {
+        givenScreenings(3);
+
+        var listings = screeningRepository.findListings("Movie 1", null, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(List.of("Movie 1 (drama, 100 minutes), screened in room Room 1, at 2021-03-16 10:00"),
+                listings.map(ScreeningListing::toString).getContent());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(listings.hasNext());
+    }
+
+    @Test
+    public void givenScreenings_whenFindAll_thenMoviesAndRoomsComeWithTheSameStatement() {
+        givenScreenings(10);
+
+        var screenings = screeningRepository.findAll();
+        screenings.forEach(Screening::toString);
+
+        assertEquals(10, screenings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenScreenings_whenFindIntervalsByRoom_thenNoEntityIsLoaded() {
+        givenScreenings(3);
+        var room = entityManager.find(Room.class, "Room 1");
+        statistics.clear();
+
+        List<ScreeningInterval> intervals = screeningRepository.findIntervalsByRoom(room);
+
+        assertEquals(1, intervals.size());
+        assertEquals(FIRST_DAY.plusDays(1), intervals.get(0).date());
+        assertEquals(FIRST_DAY.plusDays(1).plusMinutes(100), intervals.get(0).endDate());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
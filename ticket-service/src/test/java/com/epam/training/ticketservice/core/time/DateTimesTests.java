@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimesTests {
+    @Test
+    public void givenFormattedDate_whenParse_thenFormatRoundTrips() {
+        var date = DateTimes.parse("2021-03-15 10:45");
+
+        assertEquals(LocalDateTime.of(2021, 3, 15, 10, 45), date);
+        assertEquals("2021-03-15 10:45", DateTimes.format(date));
+    }
+
+    @Test
+    public void givenDate_whenToEpochMinute_thenFromEpochMinuteRoundTrips() {
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+        long minute = DateTimes.toEpochMinute(date);
+
+        assertEquals(minute + 90, DateTimes.toEpochMinute(date.plusMinutes(90)));
+        assertEquals(date, DateTimes.fromEpochMinute(minute));
+    }
+
+    @Test
+    public void givenDateBeforeEpoch_whenToEpochMinute_thenRoundsDown() {
+        var date = LocalDateTime.of(1969, 12, 31, 23, 59, 30);
+
+        assertEquals(-1, DateTimes.toEpochMinute(date));
+    }
+}
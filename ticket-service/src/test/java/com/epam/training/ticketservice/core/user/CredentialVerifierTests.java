@@ -0,0 +1,52 @@
+package com.epam.training.ticketservice.core.user;
+
+import com.epam.training.ticketservice.core.cache.ExpiringCache;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CredentialVerifierTests {
+    private final PasswordHasher passwordHasher = spy(new PasswordHasher(1000));
+    private final CredentialVerifier credentialVerifier =
+            new CredentialVerifier(passwordHasher, new ExpiringCache<>(16, Duration.ofMinutes(1)));
+    private final User user = new User("user", passwordHasher.hash("password"), User.Role.USER);
+
+    @Test
+    public void givenCorrectPassword_whenVerify_thenTrue() {
+        assertTrue(credentialVerifier.verify(user, "password"));
+    }
+
+    @Test
+    public void givenWrongPassword_whenVerify_thenFalse() {
+        assertFalse(credentialVerifier.verify(user, "wrong"));
+    }
+
+    @Test
+    public void givenRecentVerification_whenVerifyAgain_thenHashIsNotRecomputed() {
+        credentialVerifier.verify(user, "password");
+
+        assertTrue(credentialVerifier.verify(user, "password"));
+        verify(passwordHasher, times(1)).matches("password", user.getPassword());
+    }
+
+    @Test
+    public void givenFailedVerification_whenVerifyAgain_thenHashIsRecomputed() {
+        credentialVerifier.verify(user, "wrong");
+
+        assertFalse(credentialVerifier.verify(user, "wrong"));
+        verify(passwordHasher, times(2)).matches("wrong", user.getPassword());
+    }
+
+    @Test
+    public void givenChangedPassword_whenVerifyOldPassword_thenFalse() {
+        credentialVerifier.verify(user, "password");
+        user.setPassword(passwordHasher.hash("newPassword"));
+
+        assertFalse(credentialVerifier.verify(user, "password"));
+        assertTrue(credentialVerifier.verify(user, "newPassword"));
+    }
+}
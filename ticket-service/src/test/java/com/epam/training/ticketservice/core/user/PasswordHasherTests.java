@@ -0,0 +1,52 @@
+package com.epam.training.ticketservice.core.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTests {
+    private final PasswordHasher passwordHasher = new PasswordHasher(1000);
+
+    @Test
+    public void givenPassword_whenHash_thenHashMatchesOnlyThatPassword() {
+        var hash = passwordHasher.hash("password");
+
+        assertNotEquals("password", hash);
+        assertTrue(passwordHasher.matches("password", hash));
+        assertFalse(passwordHasher.matches("Password", hash));
+    }
+
+    @Test
+    public void givenSamePassword_whenHashTwice_thenSaltsDiffer() {
+        assertNotEquals(passwordHasher.hash("password"), passwordHasher.hash("password"));
+    }
+
+    @Test
+    public void givenHashWithOtherIterationCount_whenMatches_thenStoredIterationCountIsUsed() {
+        var hash = new PasswordHasher(2000).hash("password");
+
+        assertTrue(passwordHasher.matches("password", hash));
+    }
+
+    @Test
+    public void givenPlaintextOrMissingHash_whenMatches_thenFalse() {
+        assertFalse(passwordHasher.matches("password", "password"));
+        assertFalse(passwordHasher.matches("password", null));
+    }
+
+    @Test
+    public void givenLegacyPlaintext_whenMatchesLegacy_thenComparesPlaintext() {
+        assertFalse(passwordHasher.isHashed("password"));
+        assertTrue(passwordHasher.matchesLegacy("password", "password"));
+        assertFalse(passwordHasher.matchesLegacy("Password", "password"));
+        assertFalse(passwordHasher.matchesLegacy("password", null));
+    }
+
+    @Test
+    public void givenHash_whenMatchesLegacy_thenFalse() {
+        var hash = passwordHasher.hash("password");
+
+        assertTrue(passwordHasher.isHashed(hash));
+        assertFalse(passwordHasher.matchesLegacy(hash, hash));
+    }
+}
@@ -1,15 +1,20 @@
 package com.epam.training.ticketservice.core.user;
 
+import com.epam.training.ticketservice.core.result.ErrorCode;
 import com.epam.training.ticketservice.core.result.Result;
 import com.epam.training.ticketservice.core.user.persistence.User;
 import com.epam.training.ticketservice.core.user.persistence.UserRepository;
+import com.epam.training.ticketservice.core.user.session.SessionContext;
+import com.epam.training.ticketservice.core.user.session.SessionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,9 +23,24 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTests {
+    private static final PasswordHasher PASSWORD_HASHER = new PasswordHasher(1000);
+    private static final String HASHED_PASSWORD = PASSWORD_HASHER.hash("password");
+
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(1000);
+
+    @Spy
+    private CredentialVerifier credentialVerifier = new CredentialVerifier(PASSWORD_HASHER, 16, Duration.ofMinutes(1));
+
+    @Spy
+    private SessionRegistry sessionRegistry = new SessionRegistry(Duration.ofMinutes(30));
+
+    @Spy
+    private SessionContext sessionContext = new SessionContext();
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -28,7 +48,7 @@ public class UserServiceTests {
 
     @BeforeEach
     void setUp() {
-        user = new User("testUser", "password", User.Role.USER);
+        user = new User("testUser", HASHED_PASSWORD, User.Role.USER);
     }
 
     @Test
@@ -42,6 +62,28 @@ public class UserServiceTests {
         assertEquals(user, result.unwrap());
     }
 
+    @Test
+    void givenNewUser_whenSignUp_thenPasswordIsStoredHashed() {
+        when(userRepository.findById("testUser")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        User saved = userService.signUp("testUser", "password").unwrap();
+
+        assertNotEquals("password", saved.getPassword());
+        assertTrue(PASSWORD_HASHER.matches("password", saved.getPassword()));
+    }
+
+    @Test
+    void givenWrongPassword_whenSignIn_thenError() {
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
+
+        Result<User> result = userService.signInUnprivileged("testUser", "wrong");
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.INCORRECT_CREDENTIALS, result.unwrapErr().code());
+        assertEquals(Optional.empty(), userService.getLoggedInUser());
+    }
+
     @Test
     void givenAlreadyExistingUser_whenSignUp_thenError() {
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
@@ -49,14 +91,14 @@ public class UserServiceTests {
         Result<User> result = userService.signUp("testUser", "password");
 
         assertFalse(result.isOk());
-        assertEquals("User already exists", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.USER_EXISTS, result.unwrapErr().code());
         verify(userRepository).findById("testUser");
         verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
     void givenUnprivilegedUser_whenSignInUnprivileged_thenSignIn() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password")).thenReturn(Optional.of(user));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
 
         Result<User> result = userService.signInUnprivileged("testUser", "password");
 
@@ -67,28 +109,28 @@ public class UserServiceTests {
 
     @Test
     void givenUnprivilegedUser_whenSignInPrivileged_thenError() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password")).thenReturn(Optional.of(user));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
 
         Result<User> result = userService.signInPrivileged("testUser", "password");
 
         assertFalse(result.isOk());
-        assertEquals("Login failed due to incorrect credentials", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INCORRECT_CREDENTIALS, result.unwrapErr().code());
     }
 
     @Test
     void givenAlreadySignedInUnprivilegedUser_whenSignInUnprivileged_thenError() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password")).thenReturn(Optional.of(user));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
         userService.signInUnprivileged("testUser", "password");
 
         Result<User> result = userService.signInUnprivileged("testUser", "password");
 
         assertFalse(result.isOk());
-        assertEquals("User already logged in", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.ALREADY_SIGNED_IN, result.unwrapErr().code());
     }
 
     @Test
     void givenAlreadySignedInUser_whenSignOut_thenSignOut() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password")).thenReturn(Optional.of(user));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
         userService.signInUnprivileged("testUser", "password");
 
         Result<User> result = userService.signOut();
@@ -102,13 +144,13 @@ public class UserServiceTests {
         Result<User> result = userService.signOut();
 
         assertFalse(result.isOk());
-        assertEquals("No user to sign out", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.NO_USER_TO_SIGN_OUT, result.unwrapErr().code());
     }
 
     @Test
     void givenPrivilegedUser_whenEnsurePrivileged_thenOk() {
-        User adminUser = new User("adminUser", "password", User.Role.ADMIN);
-        when(userRepository.findByUsernameAndPassword("adminUser", "password")).thenReturn(Optional.of(adminUser));
+        User adminUser = new User("adminUser", HASHED_PASSWORD, User.Role.ADMIN);
+        when(userRepository.findById("adminUser")).thenReturn(Optional.of(adminUser));
         userService.signInPrivileged("adminUser", "password");
 
         Result<User> result = userService.ensurePrivileged();
@@ -124,17 +166,88 @@ public class UserServiceTests {
         Result<User> result = userService.ensurePrivileged();
 
         assertFalse(result.isOk());
-        assertEquals("Insufficient privilege", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
     }
 
     @Test
     void givenUnprivilegedUser_whenEnsurePrivileged_thenError() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password")).thenReturn(Optional.of(user));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
         userService.signInUnprivileged("testUser", "password"); // Log in a regular user first
 
         Result<User> result = userService.ensurePrivileged();
 
         assertFalse(result.isOk());
-        assertEquals("Insufficient privilege", result.unwrapErr().getMessage());
+        assertEquals(ErrorCode.INSUFFICIENT_PRIVILEGE, result.unwrapErr().code());
+    }
+
+    @Test
+    void givenUnprivilegedUser_whenEnsureUnprivileged_thenOk() {
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
+        userService.signInUnprivileged("testUser", "password");
+
+        Result<User> result = userService.ensureUnprivileged();
+
+        assertTrue(result.isOk());
+        assertEquals(user, result.unwrap());
+    }
+
+    @Test
+    void givenPrivilegedUser_whenEnsureUnprivileged_thenError() {
+        User adminUser = new User("adminUser", HASHED_PASSWORD, User.Role.ADMIN);
+        when(userRepository.findById("adminUser")).thenReturn(Optional.of(adminUser));
+        userService.signInPrivileged("adminUser", "password");
+
+        Result<User> result = userService.ensureUnprivileged();
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.PRIVILEGED_CAN_NOT_BOOK, result.unwrapErr().code());
+    }
+
+    @Test
+    void givenNotSignedInUser_whenEnsureUnprivileged_thenError() {
+        Result<User> result = userService.ensureUnprivileged();
+
+        assertFalse(result.isOk());
+        assertEquals(ErrorCode.NOT_SIGNED_IN, result.unwrapErr().code());
+    }
+
+    @Test
+    void givenSignedInUserInOtherSession_whenGetLoggedInUser_thenSessionsAreIndependent() {
+        User adminUser = new User("adminUser", HASHED_PASSWORD, User.Role.ADMIN);
+        when(userRepository.findById("adminUser")).thenReturn(Optional.of(adminUser));
+        when(userRepository.findById("testUser")).thenReturn(Optional.of(user));
+        userService.signInPrivileged("adminUser", "password");
+
+        Result<User> result = sessionContext.callAs("terminal-2", () -> userService.signInUnprivileged("testUser", "password"));
+
+        assertTrue(result.isOk());
+        assertEquals(Optional.of(adminUser), userService.getLoggedInUser());
+        assertEquals(Optional.of(user), sessionContext.callAs("terminal-2", userService::getLoggedInUser));
+        assertTrue(sessionContext.callAs("terminal-2", userService::ensurePrivileged).toOptional().isPresent());
+    }
+
+    @Test
+    void givenLegacyPlaintextPassword_whenSignIn_thenSignInAndRehash() {
+        User legacyUser = new User("legacyUser", "secret", User.Role.USER);
+        when(userRepository.findById("legacyUser")).thenReturn(Optional.of(legacyUser));
+
+        Result<User> result = userService.signInUnprivileged("legacyUser", "secret");
+
+        assertTrue(result.isOk());
+        assertTrue(passwordHasher.isHashed(legacyUser.getPassword()));
+        assertTrue(PASSWORD_HASHER.matches("secret", legacyUser.getPassword()));
+        verify(userRepository).save(legacyUser);
+    }
+
+    @Test
+    void givenLegacyPlaintextPassword_whenSignInWithWrongPassword_thenErrorAndNotRehashed() {
+        User legacyUser = new User("legacyUser", "secret", User.Role.USER);
+        when(userRepository.findById("legacyUser")).thenReturn(Optional.of(legacyUser));
+
+        Result<User> result = userService.signInUnprivileged("legacyUser", "wrong");
+
+        assertEquals(ErrorCode.INCORRECT_CREDENTIALS, result.unwrapErr().code());
+        assertEquals("secret", legacyUser.getPassword());
+        verify(userRepository, never()).save(any(User.class));
     }
 }
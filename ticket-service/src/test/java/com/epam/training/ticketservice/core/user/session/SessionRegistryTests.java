@@ -0,0 +1,104 @@
+package com.epam.training.ticketservice.core.user.session;
+
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionRegistryTests {
+    private final User user = new User("user", "password", User.Role.USER);
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock();
+    private final SessionRegistry sessionRegistry = new SessionRegistry(Duration.ofMinutes(30), clock);
+
+    @Test
+    public void givenOpenSession_whenFind_thenReturnSession() {
+        sessionRegistry.open("a", user);
+
+        var session = sessionRegistry.find("a");
+
+        assertTrue(session.isPresent());
+        assertEquals(user, session.get().getUser());
+        assertEquals(Optional.empty(), sessionRegistry.find("b"));
+    }
+
+    @Test
+    public void givenIdleSession_whenFind_thenSessionIsExpired() {
+        sessionRegistry.open("a", user);
+        clock.advance(Duration.ofMinutes(31));
+
+        assertEquals(Optional.empty(), sessionRegistry.find("a"));
+        assertEquals(0, sessionRegistry.size());
+    }
+
+    @Test
+    public void givenIdleConsoleSession_whenFindOrOpen_thenConsoleSessionIsKept() {
+        sessionRegistry.open(SessionContext.CONSOLE_TOKEN, user);
+        clock.advance(Duration.ofMinutes(31));
+
+        sessionRegistry.open("a", user);
+
+        assertTrue(sessionRegistry.find(SessionContext.CONSOLE_TOKEN).isPresent());
+        assertEquals(2, sessionRegistry.size());
+    }
+
+    @Test
+    public void givenActiveSession_whenFindRegularly_thenSessionIsKeptAlive() {
+        sessionRegistry.open("a", user);
+        clock.advance(Duration.ofMinutes(20));
+        sessionRegistry.find("a");
+        clock.advance(Duration.ofMinutes(20));
+
+        assertTrue(sessionRegistry.find("a").isPresent());
+    }
+
+    @Test
+    public void givenIdleSessions_whenOpen_thenIdleSessionsAreEvicted() {
+        sessionRegistry.open("a", user);
+        clock.advance(Duration.ofMinutes(31));
+
+        sessionRegistry.open("b", user);
+
+        assertEquals(1, sessionRegistry.size());
+    }
+
+    @Test
+    public void givenOpenSession_whenClose_thenSessionIsRemoved() {
+        sessionRegistry.open("a", user);
+
+        var closed = sessionRegistry.close("a");
+
+        assertTrue(closed.isPresent());
+        assertEquals(Optional.empty(), sessionRegistry.find("a"));
+        assertEquals(Optional.empty(), sessionRegistry.close("a"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.epam.training.ticketservice.ui.batch;
+
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.shell.CommandNotFound;
+import org.springframework.shell.ExitRequest;
+import org.springframework.shell.Input;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.ExtendedDefaultParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchShellRunnerTests {
+    @Mock
+    private Shell shell;
+
+    @Mock
+    private Terminal terminal;
+
+    private final StringWriter output = new StringWriter();
+    private BatchShellRunner batchShellRunner;
+
+    @BeforeEach
+    public void setUp() {
+        when(terminal.writer()).thenReturn(new PrintWriter(output));
+        // Configured like the parser bean of the shell auto-configuration
+        var parser = new ExtendedDefaultParser();
+        parser.setEofOnUnclosedQuote(true);
+        parser.setEofOnEscapedNewLine(true);
+        batchShellRunner = new BatchShellRunner(shell, parser, terminal);
+    }
+
+    private void run(String... lines) throws IOException {
+        batchShellRunner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private List<String> outputLines() {
+        // The timings are the only part of the frames that changes from run to run
+        return output.toString().lines().map(line -> line.replaceFirst("^(<<< .*) \\d+$", "$1")).toList();
+    }
+
+    @Test
+    public void givenScript_whenRun_thenEachCommandIsFramed() throws IOException {
+        when(shell.evaluate(any())).thenReturn("Successfully signed in with 'admin'", null);
+
+        run("sign in privileged admin admin", "create room Pedersoli 20 10");
+
+        assertEquals(List.of(
+                ">>> 1 sign in privileged admin admin",
+                "Successfully signed in with 'admin'",
+                "<<< 1 ok",
+                ">>> 2 create room Pedersoli 20 10",
+                "<<< 2 ok"
+        ), outputLines());
+        assertEquals(0, batchShellRunner.getExitCode());
+    }
+
+    @Test
+    public void givenQuotedArguments_whenRun_thenShellGetsUnquotedWords() throws IOException {
+        run("create screening Sátántangó Pedersoli \"2021-03-15 10:45\"");
+
+        verify(shell).evaluate(argThat((Input input) ->
+                input.words().equals(List.of("create", "screening", "Sátántangó", "Pedersoli", "2021-03-15 10:45"))
+                        && input.rawText().equals("create screening Sátántangó Pedersoli \"2021-03-15 10:45\"")));
+    }
+
+    @Test
+    public void givenCommentsAndBlankLines_whenRun_thenTheyAreSkipped() throws IOException {
+        run("# setup", "", "   ", "describe account");
+
+        verify(shell, times(1)).evaluate(any());
+        assertEquals(">>> 1 describe account", outputLines().get(0));
+    }
+
+    @Test
+    public void givenUnknownCommand_whenRun_thenErrorFrameAndNonZeroExitCode() throws IOException {
+        when(shell.evaluate(any())).thenReturn(new CommandNotFound(List.of("frobnicate")), "done");
+
+        run("frobnicate", "describe account");
+
+        var lines = outputLines();
+        assertEquals("<<< 1 error", lines.get(2));
+        assertEquals(List.of(">>> 2 describe account", "done", "<<< 2 ok"), lines.subList(3, 6));
+        assertEquals(1, batchShellRunner.getExitCode());
+    }
+
+    @Test
+    public void givenUnbalancedQuoteOrTrailingBackslash_whenRun_thenErrorFrameAndRunContinues() throws IOException {
+        when(shell.evaluate(any())).thenReturn("done");
+
+        run("create screening A B \"2021-03-15 10:45", "describe account\\", "describe account");
+
+        assertEquals(List.of(
+                ">>> 1 create screening A B \"2021-03-15 10:45",
+                "Missing closing quote",
+                "<<< 1 error",
+                ">>> 2 describe account\\",
+                "Escaped new line",
+                "<<< 2 error",
+                ">>> 3 describe account",
+                "done",
+                "<<< 3 ok"
+        ), outputLines());
+        verify(shell, times(1)).evaluate(any());
+        assertEquals(1, batchShellRunner.getExitCode());
+    }
+
+    @Test
+    public void givenExit_whenRun_thenFollowingCommandsAreNotRun() throws IOException {
+        when(shell.evaluate(any())).thenReturn(new ExitRequest());
+
+        run("exit", "describe account");
+
+        verify(shell, times(1)).evaluate(any());
+        assertEquals(List.of(">>> 1 exit", "<<< 1 exit"), outputLines());
+    }
+}
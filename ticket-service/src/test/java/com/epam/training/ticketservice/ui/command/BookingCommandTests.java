@@ -0,0 +1,53 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.booking.BookingService;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.persistence.Booking;
+import com.epam.training.ticketservice.core.booking.persistence.PriceSnapshot;
+import com.epam.training.ticketservice.core.pricing.PricePlan;
+import com.epam.training.ticketservice.core.result.Result;
+import com.epam.training.ticketservice.core.user.persistence.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingCommandTests {
+    @Mock
+    private BookingService bookingService;
+
+    @InjectMocks
+    private BookingCommand bookingCommand;
+
+    @Test
+    public void givenSeats_whenBook_thenParsedSeatsAreBooked() {
+        var seats = List.of(new Seat(5, 5), new Seat(5, 6));
+        var date = LocalDateTime.of(2021, 3, 15, 10, 45);
+        when(bookingService.book("A", "R", date, seats)).thenReturn(Result.ok(
+                new Booking(new User(), null, seats, PriceSnapshot.of(PricePlan.of(1500, Map.of()), 2))));
+
+        var output = bookingCommand.book("A", "R", "2021-03-15 10:45", "5,5 5,6");
+
+        assertEquals("Seats booked: (5,5), (5,6); the price for this booking is 3000 HUF", output);
+    }
+
+    @Test
+    public void givenMalformedSeat_whenBook_thenErrorMessageAndNothingBooked() {
+        assertEquals("Invalid seat: 5,x, seats are written as <row>,<column>",
+                bookingCommand.book("A", "R", "2021-03-15 10:45", "5,5 5,x"));
+        assertEquals("Invalid seat: 5, seats are written as <row>,<column>",
+                bookingCommand.book("A", "R", "2021-03-15 10:45", "5"));
+        assertEquals("Invalid seat: , seats are written as <row>,<column>",
+                bookingCommand.book("A", "R", "2021-03-15 10:45", " "));
+        verifyNoInteractions(bookingService);
+    }
+}
@@ -0,0 +1,33 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.result.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorMessagesTests {
+    @Test
+    public void givenFixedFailure_whenOf_thenMessage() {
+        assertEquals("Insufficient privilege", ErrorMessages.of(ErrorCode.INSUFFICIENT_PRIVILEGE.failure()));
+    }
+
+    @Test
+    public void givenFailureWithDetails_whenOf_thenDetailsAreFormatted() {
+        assertEquals("Seat (5,5) is already taken", ErrorMessages.of(ErrorCode.SEAT_TAKEN.with(new Seat(5, 5))));
+        assertEquals("Could not write a.tkts: Disk full",
+                ErrorMessages.of(ErrorCode.EXPORT_WRITE_FAILED.with(Path.of("a.tkts"), "Disk full")));
+    }
+
+    @Test
+    public void givenEveryCode_whenOf_thenMessageHasNoPlaceholderLeft() {
+        for (var code : ErrorCode.values()) {
+            var message = ErrorMessages.of(code.with(1, 2));
+
+            assertFalse(message.isBlank(), code.name());
+            assertFalse(message.contains("%"), code.name());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.pricing.PricingService;
+import com.epam.training.ticketservice.core.result.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingCommandTests {
+    @Mock
+    private PricingService pricingService;
+
+    @InjectMocks
+    private PricingCommand pricingCommand;
+
+    @Test
+    public void givenSeats_whenShowPrice_thenPriceOfParsedSeats() {
+        when(pricingService.calculatePrice("A", "R", LocalDateTime.of(2021, 3, 15, 10, 45),
+                List.of(new Seat(5, 5), new Seat(5, 6)))).thenReturn(Result.ok(3000));
+
+        var output = pricingCommand.showPrice("A", "R", "2021-03-15 10:45", "5,5 5,6");
+
+        assertEquals("The price for this booking would be 3000 HUF", output);
+    }
+
+    @Test
+    public void givenMalformedSeat_whenShowPrice_thenErrorMessageAndNoPriceCalculated() {
+        assertEquals("Invalid seat: x,5, seats are written as <row>,<column>",
+                pricingCommand.showPrice("A", "R", "2021-03-15 10:45", "x,5"));
+        assertEquals("Invalid seat: 5,5,5, seats are written as <row>,<column>",
+                pricingCommand.showPrice("A", "R", "2021-03-15 10:45", "5,5,5"));
+        verifyNoInteractions(pricingService);
+    }
+}
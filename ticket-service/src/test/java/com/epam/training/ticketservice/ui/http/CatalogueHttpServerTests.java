@@ -0,0 +1,190 @@
+package com.epam.training.ticketservice.ui.http;
+
+import com.epam.training.ticketservice.core.catalogue.CatalogueVersion;
+import com.epam.training.ticketservice.core.movie.MovieService;
+import com.epam.training.ticketservice.core.movie.persistence.Movie;
+import com.epam.training.ticketservice.core.room.RoomService;
+import com.epam.training.ticketservice.core.room.persistence.Room;
+import com.epam.training.ticketservice.core.screening.ScreeningService;
+import com.epam.training.ticketservice.core.screening.persistence.Screening;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogueHttpServerTests {
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private ScreeningService screeningService;
+
+    private final CatalogueVersion catalogueVersion = new CatalogueVersion(bootedAt(1));
+    private final HttpClient client = HttpClient.newHttpClient();
+    private CatalogueHttpServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new CatalogueHttpServer(movieService, roomService, screeningService, catalogueVersion,
+                "127.0.0.1", 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private static Clock bootedAt(long epochMilli) {
+        return Clock.fixed(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    private HttpResponse<String> send(String method, String path, String ifNoneMatch) throws Exception {
+        return send(server, method, path, ifNoneMatch);
+    }
+
+    private HttpResponse<String> send(CatalogueHttpServer server, String method, String path, String ifNoneMatch)
+            throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://" + server.getAddress().getHostString() + ":"
+                        + server.getAddress().getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody());
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void givenMovies_whenGetMovies_thenJsonWithVersionETag() throws Exception {
+        when(movieService.getAllMovies()).thenReturn(List.of(new Movie("Sátántangó", "drama", 450)));
+
+        var response = send("GET", "/movies", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("[{\"title\":\"Sátántangó\",\"genre\":\"drama\",\"runtimeInMinutes\":450}]", response.body());
+        assertEquals("\"1-0\"", response.headers().firstValue("ETag").orElseThrow());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    public void givenScreenings_whenGetScreenings_thenDatesInShellFormat() throws Exception {
+        var screening = new Screening(new Movie("A", "drama", 100), new Room("R", 10, 20),
+                LocalDateTime.of(2021, 3, 15, 10, 45));
+        when(screeningService.getAllScreenings()).thenReturn(List.of(screening));
+
+        var response = send("GET", "/screenings", null);
+
+        assertEquals("[{\"movieTitle\":\"A\",\"movieGenre\":\"drama\",\"movieRuntimeInMinutes\":100,"
+                + "\"roomName\":\"R\",\"date\":\"2021-03-15 10:45\"}]", response.body());
+    }
+
+    @Test
+    public void givenCurrentETag_whenGetRooms_thenNotModifiedWithoutQuerying() throws Exception {
+        var response = send("GET", "/rooms", "W/\"1-7\", \"1-0\"");
+
+        assertEquals(304, response.statusCode());
+        assertEquals("", response.body());
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    public void givenUnchangedCatalogue_whenGetRoomsTwice_thenRenderedOnce() throws Exception {
+        when(roomService.getAllRooms()).thenReturn(List.of(new Room("R", 10, 20)));
+
+        var first = send("GET", "/rooms", null);
+        var second = send("GET", "/rooms", null);
+
+        assertEquals(first.body(), second.body());
+        assertEquals("[{\"name\":\"R\",\"rows\":10,\"cols\":20}]", second.body());
+        verify(roomService, times(1)).getAllRooms();
+    }
+
+    @Test
+    public void givenBumpedVersion_whenGetRoomsWithOldETag_thenRenderedAgain() throws Exception {
+        when(roomService.getAllRooms()).thenReturn(List.of()).thenReturn(List.of(new Room("R", 10, 20)));
+        var first = send("GET", "/rooms", null);
+        catalogueVersion.bump();
+
+        var second = send("GET", "/rooms", first.headers().firstValue("ETag").orElseThrow());
+
+        assertEquals(200, second.statusCode());
+        assertEquals("\"1-1\"", second.headers().firstValue("ETag").orElseThrow());
+        assertEquals("[{\"name\":\"R\",\"rows\":10,\"cols\":20}]", second.body());
+        verify(roomService, times(2)).getAllRooms();
+    }
+
+    @Test
+    public void givenRestartedServer_whenGetRoomsWithETagFromBeforeRestart_thenRenderedAgain() throws Exception {
+        when(roomService.getAllRooms()).thenReturn(List.of(new Room("R", 10, 20)));
+        var beforeRestart = send("GET", "/rooms", null).headers().firstValue("ETag").orElseThrow();
+        var restarted = new CatalogueHttpServer(movieService, roomService, screeningService,
+                new CatalogueVersion(bootedAt(60_000)), "127.0.0.1", 0);
+        restarted.start();
+
+        try {
+            var response = send(restarted, "GET", "/rooms", beforeRestart);
+
+            assertEquals(200, response.statusCode());
+            assertNotEquals(beforeRestart, response.headers().firstValue("ETag").orElseThrow());
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    public void givenChangesBeforeQuickRestart_whenGetRoomsWithETagFromBeforeRestart_thenRenderedAgain()
+            throws Exception {
+        when(roomService.getAllRooms()).thenReturn(List.of(new Room("R", 10, 20)));
+        catalogueVersion.bump();
+        var beforeRestart = send("GET", "/rooms", null).headers().firstValue("ETag").orElseThrow();
+        // Booted as many milliseconds later as there were changes before the restart
+        var restarted = new CatalogueHttpServer(movieService, roomService, screeningService,
+                new CatalogueVersion(bootedAt(2)), "127.0.0.1", 0);
+        restarted.start();
+
+        try {
+            var response = send(restarted, "GET", "/rooms", beforeRestart);
+
+            assertEquals(200, response.statusCode());
+            assertEquals("\"2-0\"", response.headers().firstValue("ETag").orElseThrow());
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    public void givenPost_whenMovies_thenMethodNotAllowed() throws Exception {
+        var response = send("POST", "/movies", null);
+
+        assertEquals(405, response.statusCode());
+        assertEquals("GET, HEAD", response.headers().firstValue("Allow").orElseThrow());
+        verifyNoInteractions(movieService);
+    }
+
+    @Test
+    public void givenUnknownPath_whenGet_thenNotFound() throws Exception {
+        var response = send("GET", "/bookings", null);
+
+        assertEquals(404, response.statusCode());
+    }
+}
@@ -0,0 +1,219 @@
+package com.epam.training.ticketservice.ui.server;
+
+import com.epam.training.ticketservice.core.user.persistence.User;
+import com.epam.training.ticketservice.core.user.session.SessionContext;
+import com.epam.training.ticketservice.core.user.session.SessionRegistry;
+import com.epam.training.ticketservice.ui.command.CommandOutput;
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.shell.ExitRequest;
+import org.springframework.shell.Input;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.ExtendedDefaultParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ServerShellRunnerTests {
+    private static final int CLIENTS = 50;
+    private static final int COMMANDS_PER_CLIENT = 20;
+
+    @Mock
+    private Shell shell;
+
+    @Mock
+    private Terminal terminal;
+
+    private final SessionContext sessionContext = new SessionContext();
+    private final SessionRegistry sessionRegistry = new SessionRegistry(Duration.ofMinutes(30));
+    private CommandOutput commandOutput;
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+    private Future<?> server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        commandOutput = new CommandOutput(terminal);
+        // Configured like the parser bean of the shell auto-configuration
+        var parser = new ExtendedDefaultParser();
+        parser.setEofOnUnclosedQuote(true);
+        parser.setEofOnEscapedNewLine(true);
+        var runner = new ServerShellRunner(shell, parser, terminal, sessionContext,
+                commandOutput, sessionRegistry, "127.0.0.1", 0);
+        serverSocket = new ServerSocket(0, CLIENTS, InetAddress.getLoopbackAddress());
+        executor = Executors.newCachedThreadPool();
+        server = executor.submit((Callable<Void>) () -> {
+            runner.serve(serverSocket);
+            return null;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        stopServer();
+        executor.shutdownNow();
+    }
+
+    private void stopServer() throws Exception {
+        serverSocket.close();
+        server.get(10, TimeUnit.SECONDS);
+    }
+
+    private Client connect() throws IOException {
+        return new Client(new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()));
+    }
+
+    private static String wordsOf(Input input) {
+        return String.join("|", input.words());
+    }
+
+    @Test
+    public void givenClient_whenCommandsSent_thenEachCommandIsFramed() throws IOException {
+        when(shell.evaluate(any())).thenAnswer(invocation -> wordsOf(invocation.getArgument(0)));
+
+        try (var client = connect()) {
+            assertEquals(List.of(">>> 1 create screening A R \"2021-03-15 10:45\"", "create|screening|A|R|2021-03-15 10:45",
+                    "<<< 1 ok"), client.send("create screening A R \"2021-03-15 10:45\""));
+            assertEquals(List.of(">>> 2 list movies", "list|movies", "<<< 2 ok"), client.send("list movies"));
+        }
+    }
+
+    @Test
+    public void givenUnterminatedQuote_whenSent_thenErrorFrameAndConnectionStaysOpen() throws IOException {
+        when(shell.evaluate(any())).thenAnswer(invocation -> wordsOf(invocation.getArgument(0)));
+
+        try (var client = connect()) {
+            assertEquals(List.of(">>> 1 create screening A R \"2021-03-15 10:45", "Missing closing quote", "<<< 1 error"),
+                    client.send("create screening A R \"2021-03-15 10:45"));
+            assertEquals(List.of(">>> 2 list movies", "list|movies", "<<< 2 ok"), client.send("list movies"));
+        }
+        verify(shell, times(1)).evaluate(any());
+    }
+
+    @Test
+    public void givenStreamingCommand_whenSent_thenRowsGoToTheClient() throws IOException {
+        when(shell.evaluate(any())).thenAnswer(invocation -> {
+            commandOutput.writer().println("row 1");
+            commandOutput.writer().println("row 2");
+            return null;
+        });
+
+        try (var client = connect()) {
+            assertEquals(List.of(">>> 1 list movies", "row 1", "row 2", "<<< 1 ok"), client.send("list movies"));
+        }
+        verify(terminal, never()).writer();
+    }
+
+    @Test
+    public void givenExit_whenSent_thenConnectionIsClosed() throws IOException {
+        when(shell.evaluate(any())).thenReturn(new ExitRequest());
+
+        try (var client = connect()) {
+            assertEquals(List.of(">>> 1 exit", "<<< 1 exit"), client.send("exit"));
+            assertNull(client.reader.readLine());
+        }
+    }
+
+    @Test
+    public void givenSignedInClient_whenDisconnected_thenSessionIsClosed() throws Exception {
+        when(shell.evaluate(any())).thenAnswer(invocation -> {
+            sessionRegistry.open(sessionContext.currentToken(), new User());
+            return null;
+        });
+
+        try (var client = connect()) {
+            client.send("sign in u p");
+            assertEquals(1, sessionRegistry.size());
+        }
+        stopServer();
+
+        assertEquals(0, sessionRegistry.size());
+    }
+
+    @Test
+    public void givenManyConcurrentClients_whenCommandsSent_thenEachClientKeepsItsOwnSession() throws Exception {
+        when(shell.evaluate(any())).thenAnswer(invocation -> sessionContext.currentToken());
+        var start = new CountDownLatch(1);
+        var clients = new ArrayList<Future<String>>();
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(executor.submit(() -> {
+                try (var client = connect()) {
+                    start.await();
+                    var token = client.send("describe account").get(1);
+                    for (int n = 2; n <= COMMANDS_PER_CLIENT; n++) {
+                        assertEquals(List.of(">>> " + n + " describe account", token, "<<< " + n + " ok"),
+                                client.send("describe account"));
+                    }
+                    return token;
+                }
+            }));
+        }
+        start.countDown();
+
+        var tokens = new HashSet<String>();
+        for (var client : clients) {
+            tokens.add(client.get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(CLIENTS, tokens.size());
+        assertFalse(tokens.contains(SessionContext.CONSOLE_TOKEN));
+        verify(shell, times(CLIENTS * COMMANDS_PER_CLIENT)).evaluate(any());
+    }
+
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        Client(Socket socket) throws IOException {
+            this.socket = socket;
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+                    true);
+        }
+
+        // Reads up to the closing frame, without its timing
+        List<String> send(String line) throws IOException {
+            writer.println(line);
+            var lines = new ArrayList<String>();
+            for (var received = reader.readLine(); received != null; received = reader.readLine()) {
+                if (received.startsWith("<<< ")) {
+                    lines.add(received.replaceFirst(" \\d+$", ""));
+                    return lines;
+                }
+                lines.add(received);
+            }
+            return lines;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}